@@ -34,8 +34,7 @@ public class AdminInitializer {
     public void ensureAdmin() {
         try {
             // If there is already an ADMIN user in DB, do nothing.
-            boolean adminExists = userRepository.findAll().stream()
-                    .anyMatch(u -> u.getRole() == Role.ADMIN);
+            boolean adminExists = userRepository.existsByRole(Role.ADMIN);
 
             if (adminExists) {
                 log.info("Admin user already present in DB — skipping admin seed.");
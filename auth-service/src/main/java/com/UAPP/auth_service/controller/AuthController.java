@@ -3,12 +3,18 @@ package com.UAPP.auth_service.controller;
 import com.UAPP.auth_service.dto.AuthResponse;
 import com.UAPP.auth_service.dto.LoginRequest;
 import com.UAPP.auth_service.dto.RegisterRequest;
+import com.UAPP.auth_service.exception.HashingCapacityExceededException;
 import com.UAPP.auth_service.service.AuthService;
 import lombok.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
+
 @RestController
 @RequestMapping("/api/auth")
 @CrossOrigin(origins = "*")
@@ -16,6 +22,9 @@ public class AuthController {
 
     private final AuthService authService;
 
+    @Value("${app.security.bcrypt.retry-after:PT2S}")
+    private Duration retryAfter;
+
     @Autowired
     public AuthController(AuthService authService) {
         this.authService = authService;
@@ -37,4 +46,11 @@ public class AuthController {
     public ResponseEntity<AuthResponse> adminLogin(@RequestBody LoginRequest request) {
         return ResponseEntity.ok(authService.login(request));
     }
+
+    @ExceptionHandler(HashingCapacityExceededException.class)
+    public ResponseEntity<String> hashingBusy(HashingCapacityExceededException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter.toSeconds()))
+                .body(e.getMessage());
+    }
 }
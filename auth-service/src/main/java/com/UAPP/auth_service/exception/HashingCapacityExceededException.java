@@ -0,0 +1,11 @@
+package com.UAPP.auth_service.exception;
+
+/**
+ * Thrown when the password hashing pool is saturated. Mapped to
+ * 503 Service Unavailable with a Retry-After header.
+ */
+public class HashingCapacityExceededException extends RuntimeException {
+    public HashingCapacityExceededException(String message) {
+        super(message);
+    }
+}
@@ -2,6 +2,7 @@ package com.UAPP.auth_service.model;
 
 import lombok.*;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 @Setter
@@ -14,8 +15,10 @@ import org.springframework.data.mongodb.core.mapping.Document;
 public class User {
     @Id
     private String id;
+    @Indexed(name = "username_unique", unique = true)
     private String username;
     private String password;
+    @Indexed(name = "role")
     private Role role;
 
     public String getId() {
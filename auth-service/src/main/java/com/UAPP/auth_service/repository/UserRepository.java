@@ -1,5 +1,6 @@
 package com.UAPP.auth_service.repository;
 
+import com.UAPP.auth_service.model.Role;
 import com.UAPP.auth_service.model.User;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
@@ -9,4 +10,6 @@ public interface UserRepository extends MongoRepository<User, String> {
     Optional<User> findByUsername(String username);
 
     boolean existsByUsername(String adminUsername);
+
+    boolean existsByRole(Role role);
 }
\ No newline at end of file
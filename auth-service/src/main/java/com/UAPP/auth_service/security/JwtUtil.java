@@ -1,29 +1,41 @@
 package com.UAPP.auth_service.security;
 
 
+import com.UAPP.auth_service.model.Role;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.util.Date;
+import java.util.concurrent.atomic.LongAdder;
 
 @Component
-public class JwtUtil {
+public class JwtUtil implements MeterBinder {
 
     @Value
    ("${JWT_KEY}")
     private String jwtSecret;
     private final long jwtExpirationMs = 1000 * 60 * 60 * 10; // 10 hours
+    private final LongAdder issued = new LongAdder();
 
 
-    public String generateToken(String username) {
-        return Jwts.builder()
-                .setSubject(username)
+    public String generateToken(String username, Role role) {
+        JwtBuilder builder = Jwts.builder()
+                .setSubject(username);
+        if (role != null) {
+            builder.claim("role", role.name());
+        }
+        String token = builder
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + jwtExpirationMs))
                 .signWith(Keys.hmacShaKeyFor(jwtSecret.getBytes()), SignatureAlgorithm.HS256)
                 .compact();
+        issued.increment();
+        return token;
     }
 
     public String extractUsername(String token) {
@@ -46,4 +58,12 @@ public class JwtUtil {
             return false;
         }
     }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("jwt.issued", issued, LongAdder::sum)
+                .description("Tokens signed at login")
+                .register(registry);
+        // Tokens are verified by the services that consume them, which publish jwt.verifications
+    }
 }
@@ -8,6 +8,7 @@ import com.UAPP.auth_service.model.Role;
 import com.UAPP.auth_service.model.User;
 import com.UAPP.auth_service.repository.UserRepository;
 import com.UAPP.auth_service.security.JwtUtil;
+import com.UAPP.auth_service.security.PasswordHashingService;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -20,6 +21,7 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final PasswordHashingService passwordHashingService;
 
     @PostConstruct
     public void initAdminUser() {
@@ -43,10 +45,11 @@ public class AuthService {
             throw new RuntimeException("Username already exists");
         }
 
+        // Self-registration only ever creates students; the requested role is not trusted
         User user = User.builder()
                 .username(request.getUsername())
-                .password(passwordEncoder.encode(request.getPassword()))
-                .role(request.getRole())
+                .password(passwordHashingService.encode(request.getPassword()))
+                .role(Role.STUDENT)
                 .build();
 
         userRepository.save(user);
@@ -57,11 +60,19 @@ public class AuthService {
         User user = userRepository.findByUsername(request.getUsername())
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        if (!passwordHashingService.matches(request.getPassword(), user.getPassword())) {
             throw new RuntimeException("Invalid credentials");
         }
 
-        String token = jwtUtil.generateToken(user.getUsername());
+        // Work factor changed since this hash was made: upgrade it off the request path
+        if (passwordHashingService.needsRehash(user.getPassword())) {
+            passwordHashingService.rehashInBackground(request.getPassword(), rehashed -> {
+                user.setPassword(rehashed);
+                userRepository.save(user);
+            });
+        }
+
+        String token = jwtUtil.generateToken(user.getUsername(), user.getRole());
         return new AuthResponse(token, user.getRole().name());
 
     }
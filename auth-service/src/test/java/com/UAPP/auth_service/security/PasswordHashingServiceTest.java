@@ -0,0 +1,77 @@
+package com.UAPP.auth_service.security;
+
+import com.UAPP.auth_service.exception.HashingCapacityExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHashingServiceTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private PasswordHashingService service;
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void encodesAndMatchesOnPool() {
+        service = new PasswordHashingService(new BCryptPasswordEncoder(4), registry, 4, 1, 4, Duration.ofSeconds(5));
+
+        String hash = service.encode("secret");
+
+        assertTrue(service.matches("secret", hash));
+        assertFalse(service.matches("wrong", hash));
+        assertEquals(1, registry.get("auth.password.hash").tag("operation", "encode").timer().count());
+        assertEquals(2, registry.get("auth.password.hash").tag("operation", "matches").timer().count());
+        assertEquals(3, registry.get("auth.password.wait").timer().count());
+    }
+
+    @Test
+    void detectsHashesWithDifferentCost() {
+        service = new PasswordHashingService(new BCryptPasswordEncoder(5), registry, 5, 1, 4, Duration.ofSeconds(5));
+
+        assertTrue(service.needsRehash(new BCryptPasswordEncoder(4).encode("secret")));
+        assertFalse(service.needsRehash(new BCryptPasswordEncoder(5).encode("secret")));
+        assertFalse(service.needsRehash("not-a-bcrypt-hash"));
+    }
+
+    @Test
+    void rejectsWhenQueueIsFull() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.encode(rawPassword);
+            }
+        };
+        service = new PasswordHashingService(blocking, registry, 4, 1, 1, Duration.ofSeconds(5));
+
+        // occupy the only worker, then the only queue slot
+        service.rehashInBackground("a", hash -> { });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        service.rehashInBackground("b", hash -> { });
+
+        assertThrows(HashingCapacityExceededException.class, () -> service.encode("c"));
+        assertEquals(1.0, registry.get("auth.password.rejected").counter().count());
+        release.countDown();
+    }
+}
@@ -0,0 +1,53 @@
+package com.UAPP.auth_service.service;
+
+import com.UAPP.auth_service.dto.AuthResponse;
+import com.UAPP.auth_service.dto.LoginRequest;
+import com.UAPP.auth_service.dto.RegisterRequest;
+import com.UAPP.auth_service.model.Role;
+import com.UAPP.auth_service.model.User;
+import com.UAPP.auth_service.repository.UserRepository;
+import com.UAPP.auth_service.security.JwtUtil;
+import com.UAPP.auth_service.security.PasswordHashingService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AuthServiceTest {
+
+    private static final String SECRET = "0123456789abcdef0123456789abcdef0123456789abcdef";
+
+    @Test
+    void registeringAsAdminYieldsAStudentToken() {
+        UserRepository userRepository = mock(UserRepository.class);
+        PasswordHashingService hashing = mock(PasswordHashingService.class);
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "jwtSecret", SECRET);
+        AuthService authService = new AuthService(userRepository, mock(PasswordEncoder.class), jwtUtil, hashing);
+        when(userRepository.findByUsername("mallory")).thenReturn(Optional.empty());
+        when(hashing.encode("secret")).thenReturn("hash");
+
+        authService.register(new RegisterRequest("mallory", "secret", Role.ADMIN));
+
+        ArgumentCaptor<User> saved = ArgumentCaptor.forClass(User.class);
+        verify(userRepository).save(saved.capture());
+        assertEquals(Role.STUDENT, saved.getValue().getRole());
+
+        when(userRepository.findByUsername("mallory")).thenReturn(Optional.of(saved.getValue()));
+        when(hashing.matches("secret", "hash")).thenReturn(true);
+        AuthResponse response = authService.login(new LoginRequest("mallory", "secret"));
+
+        Claims claims = Jwts.parserBuilder().setSigningKey(SECRET.getBytes()).build()
+                .parseClaimsJws(response.getToken()).getBody();
+        assertEquals("STUDENT", claims.get("role"));
+        assertEquals("STUDENT", response.getRole());
+        verify(userRepository, never()).save(argThat(u -> u.getRole() == Role.ADMIN));
+    }
+}
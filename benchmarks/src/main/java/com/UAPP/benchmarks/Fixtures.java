@@ -0,0 +1,95 @@
+package com.UAPP.benchmarks;
+
+import com.UAPP.submissionService.model.PdfAttachment;
+import com.UAPP.submissionService.model.PreviewStatus;
+import com.UAPP.submissionService.model.Project;
+import com.UAPP.submissionService.model.Remark;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/** Deterministic sample data shared by the benchmarks. */
+final class Fixtures {
+
+    static final String JWT_SECRET = "benchmark-secret-benchmark-secret-benchmark-secret!";
+
+    private Fixtures() {
+    }
+
+    static Project project(int i) {
+        return Project.builder()
+                .id(new ObjectId().toHexString())
+                .title("Project " + i + ": distributed submission tracking")
+                .description("A student project exploring scalable submission workflows, review remarks and "
+                        + "deadline tracking for academic portals. Iteration " + i + ".")
+                .students(List.of("student" + i + "a@example.edu", "student" + i + "b@example.edu", "student" + i + "c@example.edu"))
+                .guideName("Dr. Guide " + (i % 20))
+                .coGuideName("Prof. CoGuide " + (i % 7))
+                .email("lead" + i + "@example.edu")
+                .url("https://example.edu/projects/" + i)
+                .startDate(LocalDate.of(2025, 1, 1).plusDays(i % 90))
+                .finalSubmissionDate(LocalDate.of(2025, 6, 1).plusDays(i % 30))
+                .githubRepo("https://github.com/example/project-" + i)
+                .summaryPdf(PdfAttachment.builder()
+                        .fileId(new ObjectId().toHexString())
+                        .filename("summary-" + i + ".pdf")
+                        .contentType("application/pdf")
+                        .size(250_000)
+                        .sha256(String.format("%064x", i))
+                        .uploadedAt(Instant.parse("2025-03-01T10:15:30Z"))
+                        .previewStatus(PreviewStatus.READY)
+                        .pageCount(12)
+                        .snippet("Abstract. This report describes the design of project " + i + ".")
+                        .build())
+                .createdBy("student" + i + "a")
+                .remarkCount(3)
+                .lastRemarkAt(Instant.parse("2025-03-02T09:00:00Z"))
+                .version(1L)
+                .build();
+    }
+
+    static List<Project> projects(int count) {
+        List<Project> projects = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            projects.add(project(i));
+        }
+        return projects;
+    }
+
+    static Remark remark(String projectId, int i) {
+        return Remark.builder()
+                .id(new ObjectId().toHexString())
+                .projectId(projectId)
+                .text("Remark " + i + ": please expand the evaluation section and add test results.")
+                .author("guide" + (i % 5))
+                .createdAt(Instant.parse("2025-03-01T10:15:30Z").plusSeconds(i * 60L))
+                .build();
+    }
+
+    static byte[] pdfBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(42).nextBytes(bytes);
+        System.arraycopy("%PDF-1.4".getBytes(), 0, bytes, 0, Math.min(8, size));
+        return bytes;
+    }
+
+    /** The converter MongoTemplate would build, minus the database. */
+    static MappingMongoConverter converter() {
+        MongoCustomConversions conversions = new MongoCustomConversions(List.of());
+        MongoMappingContext context = new MongoMappingContext();
+        context.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        context.afterPropertiesSet();
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, context);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        return converter;
+    }
+}
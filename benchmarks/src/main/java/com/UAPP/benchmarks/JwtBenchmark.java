@@ -0,0 +1,60 @@
+package com.UAPP.benchmarks;
+
+import com.UAPP.auth_service.model.Role;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue and verification in auth-service, and claim extraction in
+ * submissionService with and without the verified-claims cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+    private com.UAPP.auth_service.security.JwtUtil issuer;
+    private com.UAPP.submissionService.util.JwtUtil cachedVerifier;
+    private com.UAPP.submissionService.util.JwtUtil uncachedVerifier;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        issuer = new com.UAPP.auth_service.security.JwtUtil();
+        Field secret = ReflectionUtils.findField(com.UAPP.auth_service.security.JwtUtil.class, "jwtSecret");
+        ReflectionUtils.makeAccessible(secret);
+        ReflectionUtils.setField(secret, issuer, Fixtures.JWT_SECRET);
+
+        cachedVerifier = new com.UAPP.submissionService.util.JwtUtil(Fixtures.JWT_SECRET, 10_000, Duration.ofMinutes(10));
+        uncachedVerifier = new com.UAPP.submissionService.util.JwtUtil(Fixtures.JWT_SECRET, 0, Duration.ofMinutes(10));
+        token = issuer.generateToken("alice", Role.STUDENT);
+    }
+
+    @Benchmark
+    public String authIssue() {
+        return issuer.generateToken("alice", Role.STUDENT);
+    }
+
+    @Benchmark
+    public boolean authValidate() {
+        return issuer.validateToken(token);
+    }
+
+    @Benchmark
+    public Claims submissionVerify() {
+        return uncachedVerifier.extractClaims(token);
+    }
+
+    @Benchmark
+    public Claims submissionVerifyCached() {
+        return cachedVerifier.extractClaims(token);
+    }
+}
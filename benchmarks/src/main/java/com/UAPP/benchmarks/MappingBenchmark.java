@@ -0,0 +1,45 @@
+package com.UAPP.benchmarks;
+
+import com.UAPP.submissionService.model.Project;
+import org.bson.Document;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spring Data's entity mapping for {@link Project}: what every save and
+ * every find pays on top of the driver round trip.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MappingBenchmark {
+
+    private MappingMongoConverter converter;
+    private Project project;
+    private Document document;
+
+    @Setup
+    public void setUp() {
+        converter = Fixtures.converter();
+        project = Fixtures.project(1);
+        document = new Document();
+        converter.write(project, document);
+    }
+
+    @Benchmark
+    public Document write() {
+        Document target = new Document();
+        converter.write(project, target);
+        return target;
+    }
+
+    @Benchmark
+    public Project read() {
+        return converter.read(Project.class, document);
+    }
+}
@@ -0,0 +1,70 @@
+package com.UAPP.benchmarks;
+
+import com.UAPP.submissionService.model.Project;
+import com.UAPP.submissionService.model.Remark;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of adding one remark as a project accumulates them. The embedded
+ * layout (before remarks got their own collection) re-mapped and re-encoded
+ * the whole project with its growing list on every save; the collection
+ * layout encodes one small document regardless of history.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RemarkBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int existingRemarks;
+
+    private final DocumentCodec codec = new DocumentCodec();
+    private MappingMongoConverter converter;
+    private Project project;
+    private List<Document> embedded;
+    private Remark next;
+
+    @Setup
+    public void setUp() {
+        converter = Fixtures.converter();
+        project = Fixtures.project(1);
+        embedded = new ArrayList<>(existingRemarks);
+        for (int i = 0; i < existingRemarks; i++) {
+            embedded.add(map(Fixtures.remark(project.getId(), i)));
+        }
+        next = Fixtures.remark(project.getId(), existingRemarks);
+    }
+
+    @Benchmark
+    public RawBsonDocument embeddedAppend() {
+        Document doc = new Document();
+        converter.write(project, doc);
+        List<Document> remarks = new ArrayList<>(embedded.size() + 1);
+        remarks.addAll(embedded);
+        remarks.add(map(next));
+        doc.put("remarks", remarks);
+        return new RawBsonDocument(doc, codec);
+    }
+
+    @Benchmark
+    public RawBsonDocument collectionInsert() {
+        return new RawBsonDocument(map(next), codec);
+    }
+
+    private Document map(Remark remark) {
+        Document doc = new Document();
+        converter.write(remark, doc);
+        return doc;
+    }
+}
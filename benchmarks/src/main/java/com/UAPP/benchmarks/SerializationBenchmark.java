@@ -0,0 +1,61 @@
+package com.UAPP.benchmarks;
+
+import com.UAPP.submissionService.model.Project;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.bson.types.Binary;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON rendering of a project list as the controllers return it, against the
+ * legacy shape where every project carried its PDF as an embedded
+ * {@link Binary} ({@code pdfBytes > 0}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"50", "200"})
+    public int projects;
+
+    @Param({"0", "262144"})
+    public int pdfBytes;
+
+    private ObjectMapper objectMapper;
+    private List<?> payload;
+
+    @Setup
+    public void setUp() {
+        // Same settings as the services: Boot defaults plus ISO dates
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        List<Project> list = Fixtures.projects(projects);
+        if (pdfBytes == 0) {
+            payload = list;
+        } else {
+            Binary pdf = new Binary(Fixtures.pdfBytes(pdfBytes));
+            payload = list.stream().map(p -> new LegacyProject(p, pdf)).toList();
+        }
+    }
+
+    @Benchmark
+    public byte[] writeList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(payload);
+    }
+
+    /** A project as it was serialized before PDFs moved to GridFS. */
+    public record LegacyProject(@JsonUnwrapped Project project, Binary projectSummaryPdf) {
+    }
+}
@@ -0,0 +1,175 @@
+package com.UAPP.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * The HTTP calls the scenarios make, each timed under a stable endpoint
+ * name (method plus route template) so results aggregate per endpoint.
+ */
+final class ApiClient {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(60);
+
+    private final ServiceProcess auth;
+    private final ServiceProcess submission;
+    private final Recorder recorder;
+    private final ObjectMapper json;
+    private final HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    ApiClient(ServiceProcess auth, ServiceProcess submission, Recorder recorder, ObjectMapper json) {
+        this.auth = auth;
+        this.submission = submission;
+        this.recorder = recorder;
+        this.json = json;
+    }
+
+    HttpResponse<String> register(String username, String password, String role) {
+        ObjectNode body = json.createObjectNode().put("username", username).put("password", password).put("role", role);
+        return recorder.record("POST /api/auth/register", () -> http.send(
+                jsonPost(auth.uri("/api/auth/register").toString(), body.toString(), null).build(),
+                HttpResponse.BodyHandlers.ofString()));
+    }
+
+    /** Returns the token, or null when the login was refused. */
+    String login(String username, String password) {
+        ObjectNode body = json.createObjectNode().put("username", username).put("password", password);
+        HttpResponse<String> response = recorder.record("POST /api/auth/login", () -> http.send(
+                jsonPost(auth.uri("/api/auth/login").toString(), body.toString(), null).build(),
+                HttpResponse.BodyHandlers.ofString()));
+        return response.statusCode() == 200 ? read(response.body()).path("token").asText(null) : null;
+    }
+
+    HttpResponse<String> createProject(String token, ObjectNode project, byte[] pdf) {
+        String boundary = "----load-test-" + UUID.randomUUID();
+        ByteArrayOutputStream body = new ByteArrayOutputStream(pdf.length + 2048);
+        writePart(body, boundary, "project", null, "application/json", project.toString().getBytes(StandardCharsets.UTF_8));
+        writePart(body, boundary, "file", "summary.pdf", "application/pdf", pdf);
+        body.writeBytes(("--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII));
+
+        HttpRequest request = HttpRequest.newBuilder(submission.uri("/api/projects"))
+                .timeout(TIMEOUT)
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()))
+                .build();
+        return recorder.record("POST /api/projects", () -> http.send(request, HttpResponse.BodyHandlers.ofString()));
+    }
+
+    HttpResponse<String> importZip(String token, byte[] zip) {
+        HttpRequest request = HttpRequest.newBuilder(submission.uri("/api/projects/import"))
+                .timeout(Duration.ofMinutes(10))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/zip")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(zip))
+                .build();
+        return recorder.record("POST /api/projects/import", () -> http.send(request, HttpResponse.BodyHandlers.ofString()));
+    }
+
+    HttpResponse<String> listAdmin(String token, String cursor, int size) {
+        String query = "?size=" + size + (cursor == null ? "" : "&cursor=" + encode(cursor));
+        return recorder.record("GET /api/projects/admin", () -> http.send(
+                get(submission.uri("/api/projects/admin" + query).toString(), token).build(),
+                HttpResponse.BodyHandlers.ofString()));
+    }
+
+    HttpResponse<String> detail(String token, String id, String etag) {
+        HttpRequest.Builder request = get(submission.uri("/api/projects/" + id).toString(), token);
+        if (etag != null) {
+            request.header("If-None-Match", etag);
+        }
+        return recorder.record("GET /api/projects/{id}", () -> http.send(request.build(), HttpResponse.BodyHandlers.ofString()));
+    }
+
+    HttpResponse<String> remarks(String token, String id) {
+        return recorder.record("GET /api/projects/{id}/remarks", () -> http.send(
+                get(submission.uri("/api/projects/" + id + "/remarks").toString(), token).build(),
+                HttpResponse.BodyHandlers.ofString()));
+    }
+
+    HttpResponse<String> addRemark(String token, String id, String text) {
+        String body = json.createObjectNode().put("text", text).toString();
+        return recorder.record("POST /api/projects/{id}/remarks", () -> http.send(
+                jsonPost(submission.uri("/api/projects/" + id + "/remarks").toString(), body, token).build(),
+                HttpResponse.BodyHandlers.ofString()));
+    }
+
+    HttpResponse<String> search(String token, String q) {
+        return recorder.record("GET /api/projects/search", () -> http.send(
+                get(submission.uri("/api/projects/search?q=" + encode(q)).toString(), token).build(),
+                HttpResponse.BodyHandlers.ofString()));
+    }
+
+    HttpResponse<String> addImportantDate(String title, String isoInstant) {
+        String body = json.createObjectNode().put("title", title).put("description", "Seeded by load test")
+                .put("date", isoInstant).toString();
+        return recorder.record("POST /api/important-dates", () -> http.send(
+                jsonPost(submission.uri("/api/important-dates").toString(), body, null).build(),
+                HttpResponse.BodyHandlers.ofString()));
+    }
+
+    HttpResponse<String> importantDates() {
+        return recorder.record("GET /api/important-dates", () -> http.send(
+                get(submission.uri("/api/important-dates").toString(), null).build(),
+                HttpResponse.BodyHandlers.ofString()));
+    }
+
+    JsonNode read(String body) {
+        try {
+            return json.readTree(body);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unexpected response: " + body, e);
+        }
+    }
+
+    private static HttpRequest.Builder get(String uri, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(uri)).timeout(TIMEOUT).GET();
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private static HttpRequest.Builder jsonPost(String uri, String body, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(uri))
+                .timeout(TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private static void writePart(ByteArrayOutputStream out, String boundary, String name, String filename,
+                                  String contentType, byte[] content) {
+        StringBuilder header = new StringBuilder("--").append(boundary).append("\r\n")
+                .append("Content-Disposition: form-data; name=\"").append(name).append('"');
+        if (filename != null) {
+            header.append("; filename=\"").append(filename).append('"');
+        }
+        header.append("\r\nContent-Type: ").append(contentType).append("\r\n\r\n");
+        out.writeBytes(header.toString().getBytes(StandardCharsets.UTF_8));
+        out.writeBytes(content);
+        out.writeBytes("\r\n".getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,83 @@
+package com.UAPP.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop driver: {@code concurrency} workers repeat a scenario step
+ * back to back, first for the warm-up (discarded) and then for the measured
+ * window. Exceptions count as failed iterations and do not stop the run.
+ */
+final class LoadRunner {
+
+    private final Recorder recorder;
+    private final List<ServiceProcess> services;
+
+    LoadRunner(Recorder recorder, List<ServiceProcess> services) {
+        this.recorder = recorder;
+        this.services = services;
+    }
+
+    @FunctionalInterface
+    interface Step {
+        void run(int worker, ThreadLocalRandom random) throws Exception;
+    }
+
+    record ScenarioResult(String scenario, int concurrency, double seconds, long failedIterations,
+                          Map<String, EndpointStats.Summary> endpoints, Map<String, Long> heapPeakBytes) {
+    }
+
+    ScenarioResult run(String name, int concurrency, Duration warmup, Duration duration, Step step) throws Exception {
+        System.out.printf("[run] %s: %d workers, %ds warm-up, %ds measured%n",
+                name, concurrency, warmup.toSeconds(), duration.toSeconds());
+        drive(concurrency, warmup, step);
+
+        recorder.reset();
+        services.forEach(ServiceProcess::takeHeapPeak);
+        long start = System.nanoTime();
+        long failed = drive(concurrency, duration, step);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        Map<String, EndpointStats.Summary> endpoints = new LinkedHashMap<>();
+        recorder.reset().forEach((endpoint, stats) -> endpoints.put(endpoint, stats.summarize(seconds)));
+        Map<String, Long> heap = new LinkedHashMap<>();
+        services.forEach(service -> heap.put(service.name(), service.takeHeapPeak()));
+        return new ScenarioResult(name, concurrency, seconds, failed, endpoints, heap);
+    }
+
+    private static long drive(int concurrency, Duration window, Step step) throws Exception {
+        if (window.isZero()) {
+            return 0;
+        }
+        long deadline = System.nanoTime() + window.toNanos();
+        LongAdder failed = new LongAdder();
+        try (ExecutorService workers = Executors.newFixedThreadPool(concurrency)) {
+            List<Future<?>> futures = new ArrayList<>(concurrency);
+            for (int w = 0; w < concurrency; w++) {
+                int worker = w;
+                futures.add(workers.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (System.nanoTime() < deadline) {
+                        try {
+                            step.run(worker, random);
+                        } catch (Exception e) {
+                            failed.increment();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        return failed.sum();
+    }
+}
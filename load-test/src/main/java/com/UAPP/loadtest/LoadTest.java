@@ -0,0 +1,114 @@
+package com.UAPP.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetup;
+import de.flapdoodle.embed.mongo.commands.ServerAddress;
+import de.flapdoodle.embed.mongo.distribution.Version;
+import de.flapdoodle.embed.mongo.transitions.Mongod;
+import de.flapdoodle.embed.mongo.transitions.RunningMongodProcess;
+import de.flapdoodle.reverse.TransitionWalker;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * End-to-end load test. Starts a throwaway mongod and a GreenMail SMTP
+ * server, launches both service jars against them, seeds data through the
+ * API and runs the deadline scenarios:
+ *
+ * <ul>
+ *   <li>{@code login-storm}: concurrent student logins (BCrypt pool, JWT issue)</li>
+ *   <li>{@code upload-burst}: multipart project creation with PDFs (GridFS, dedup, previews)</li>
+ *   <li>{@code admin-session}: list pages, detail revalidation, remarks, search</li>
+ * </ul>
+ *
+ * Options are described in {@link Options}; results go to the console and
+ * to {@code --out} as JSON.
+ */
+public final class LoadTest {
+
+    private static final String JWT_KEY = "load-test-secret-load-test-secret-load-test-secret!";
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        ObjectMapper json = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        Path logDir = options.out().toAbsolutePath().getParent();
+
+        System.out.println("[env] starting mongod and SMTP");
+        GreenMail smtp = new GreenMail(new ServerSetup(freePort(), "localhost", ServerSetup.PROTOCOL_SMTP));
+        smtp.start();
+        try (TransitionWalker.ReachedState<RunningMongodProcess> mongod =
+                     options.mongoUri() == null ? Mongod.instance().start(Version.Main.V7_0) : null) {
+            String mongoUri = options.mongoUri();
+            if (mongod != null) {
+                ServerAddress address = mongod.current().getServerAddress();
+                mongoUri = "mongodb://" + address.getHost() + ":" + address.getPort();
+            }
+
+            Map<String, String> common = Map.of(
+                    "MONGODB_URI", mongoUri,
+                    "JWT_KEY", JWT_KEY,
+                    "ADMIN", options.adminUser(),
+                    "PASS", options.adminPassword());
+            Map<String, String> submissionEnv = new HashMap<>(common);
+            submissionEnv.putAll(Map.of(
+                    "MAIL_HOST", "localhost",
+                    "MAIL_PORT", String.valueOf(smtp.getSmtp().getPort()),
+                    "MAIL_SMTP_AUTH", "false",
+                    "MAIL_STARTTLS", "false",
+                    "EMAIL", "portal@example.edu"));
+            List<String> jvmArgs = List.of("-Xmx1g", "-XX:+UseG1GC");
+
+            System.out.println("[env] starting services");
+            try (ServiceProcess auth = ServiceProcess.start("auth-service", options.authJar(), freePort(),
+                         common, jvmArgs, logDir);
+                 ServiceProcess submission = ServiceProcess.start("submissionService", options.submissionJar(), freePort(),
+                         submissionEnv, jvmArgs, logDir)) {
+                auth.awaitReady(Duration.ofMinutes(2));
+                submission.awaitReady(Duration.ofMinutes(2));
+
+                Recorder recorder = new Recorder();
+                ApiClient api = new ApiClient(auth, submission, recorder, json);
+                SampleData data = new SampleData(json, options.pdfSize());
+                Seeder.Seeded seeded = new Seeder(api, data, options).seed();
+                recorder.reset();
+
+                Scenarios scenarios = new Scenarios(api, data, options, seeded);
+                LoadRunner runner = new LoadRunner(recorder, List.of(auth, submission));
+                List<LoadRunner.ScenarioResult> results = new ArrayList<>();
+                results.add(runner.run("login-storm", options.concurrency(), options.warmup(), options.duration(),
+                        scenarios.loginStorm()));
+                results.add(runner.run("upload-burst", Math.max(1, options.concurrency() / 4), options.warmup(),
+                        options.duration(), scenarios.uploadBurst()));
+                results.add(runner.run("admin-session", Math.max(1, options.concurrency() / 4), options.warmup(),
+                        options.duration(), scenarios.adminSession()));
+
+                Report.print(results);
+                Report.write(results, options, json);
+                System.out.printf("[env] SMTP received %d notification mails%n", smtp.getReceivedMessages().length);
+            }
+        } finally {
+            smtp.stop();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
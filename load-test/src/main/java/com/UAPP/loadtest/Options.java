@@ -0,0 +1,68 @@
+package com.UAPP.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Command line options, all {@code --name value}. Sizes accept KB/MB
+ * suffixes and durations a s/m suffix. {@code --mongo-uri} points the
+ * services at an existing (empty) database instead of a downloaded mongod.
+ */
+record Options(
+        int students,
+        int projects,
+        int remarks,
+        int importantDates,
+        int pdfSize,
+        int concurrency,
+        Duration duration,
+        Duration warmup,
+        Path authJar,
+        Path submissionJar,
+        Path out,
+        String adminUser,
+        String adminPassword,
+        String mongoUri) {
+
+    static Options parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--") || i + 1 >= args.length) {
+                throw new IllegalArgumentException("Expected --name value, got " + args[i]);
+            }
+            values.put(args[i].substring(2), args[++i]);
+        }
+        return new Options(
+                Integer.parseInt(values.getOrDefault("students", "200")),
+                Integer.parseInt(values.getOrDefault("projects", "3000")),
+                Integer.parseInt(values.getOrDefault("remarks", "6000")),
+                Integer.parseInt(values.getOrDefault("important-dates", "60")),
+                (int) size(values.getOrDefault("pdf-size", "200KB")),
+                Integer.parseInt(values.getOrDefault("concurrency", "64")),
+                duration(values.getOrDefault("duration", "30s")),
+                duration(values.getOrDefault("warmup", "5s")),
+                Path.of(values.getOrDefault("auth-jar", "../auth-service/target/auth-service-0.0.1-SNAPSHOT.jar")),
+                Path.of(values.getOrDefault("submission-jar", "../submissionService/target/submissionService-0.0.1-SNAPSHOT.jar")),
+                Path.of(values.getOrDefault("out", "target/load-test/results.json")),
+                values.getOrDefault("admin-user", "admin"),
+                values.getOrDefault("admin-password", "pass123"),
+                values.get("mongo-uri"));
+    }
+
+    private static long size(String value) {
+        String v = value.trim().toUpperCase();
+        if (v.endsWith("MB")) return Long.parseLong(v.substring(0, v.length() - 2)) * 1024 * 1024;
+        if (v.endsWith("KB")) return Long.parseLong(v.substring(0, v.length() - 2)) * 1024;
+        return Long.parseLong(v);
+    }
+
+    private static Duration duration(String value) {
+        String v = value.trim().toLowerCase();
+        if (v.endsWith("ms")) return Duration.ofMillis(Long.parseLong(v.substring(0, v.length() - 2)));
+        if (v.endsWith("s")) return Duration.ofSeconds(Long.parseLong(v.substring(0, v.length() - 1)));
+        if (v.endsWith("m")) return Duration.ofMinutes(Long.parseLong(v.substring(0, v.length() - 1)));
+        return Duration.parse(value);
+    }
+}
@@ -0,0 +1,41 @@
+package com.UAPP.loadtest;
+
+import java.net.http.HttpResponse;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects per-endpoint latencies for the scenario that is running. A
+ * response counts as an error when its status is not 2xx or 304.
+ */
+final class Recorder {
+
+    private volatile Map<String, EndpointStats> current = new ConcurrentHashMap<>();
+
+    <T> HttpResponse<T> record(String endpoint, HttpCall<T> call) {
+        long start = System.nanoTime();
+        HttpResponse<T> response = null;
+        try {
+            response = call.send();
+            return response;
+        } catch (Exception e) {
+            throw new IllegalStateException(endpoint + " failed", e);
+        } finally {
+            boolean ok = response != null && (response.statusCode() / 100 == 2 || response.statusCode() == 304);
+            current.computeIfAbsent(endpoint, k -> new EndpointStats()).record(System.nanoTime() - start, ok);
+        }
+    }
+
+    /** Starts a fresh measurement window and returns the one that just ended. */
+    Map<String, EndpointStats> reset() {
+        Map<String, EndpointStats> finished = current;
+        current = new ConcurrentHashMap<>();
+        return new TreeMap<>(finished);
+    }
+
+    @FunctionalInterface
+    interface HttpCall<T> {
+        HttpResponse<T> send() throws Exception;
+    }
+}
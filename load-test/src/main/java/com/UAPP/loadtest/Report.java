@@ -0,0 +1,43 @@
+package com.UAPP.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/** Console table plus a JSON file that can be diffed between branches. */
+final class Report {
+
+    private Report() {
+    }
+
+    static void print(List<LoadRunner.ScenarioResult> results) {
+        for (LoadRunner.ScenarioResult result : results) {
+            System.out.printf("%n== %s (%d workers, %.1fs, %d failed iterations)%n",
+                    result.scenario(), result.concurrency(), result.seconds(), result.failedIterations());
+            System.out.printf("%-36s %9s %7s %9s %9s %9s %9s%n",
+                    "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "max ms");
+            for (Map.Entry<String, EndpointStats.Summary> entry : result.endpoints().entrySet()) {
+                EndpointStats.Summary s = entry.getValue();
+                System.out.printf("%-36s %9d %7d %9.1f %9.2f %9.2f %9.2f%n",
+                        entry.getKey(), s.requests(), s.errors(), s.throughput(), s.p50Ms(), s.p99Ms(), s.maxMs());
+            }
+            result.heapPeakBytes().forEach((service, bytes) ->
+                    System.out.printf("heap peak %-26s %9.1f MB%n", service, bytes / (1024.0 * 1024.0)));
+        }
+    }
+
+    static void write(List<LoadRunner.ScenarioResult> results, Options options, ObjectMapper json) throws IOException {
+        Path out = options.out();
+        if (out.getParent() != null) {
+            Files.createDirectories(out.getParent());
+        }
+        Map<String, Object> document = Map.of("options", options, "scenarios", results);
+        json.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValue(out.toFile(), document);
+        System.out.printf("%nResults written to %s%n", out.toAbsolutePath());
+    }
+}
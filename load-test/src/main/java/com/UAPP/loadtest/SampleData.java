@@ -0,0 +1,112 @@
+package com.UAPP.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic, realistic-looking seed data: project metadata with
+ * searchable text and one-page PDFs padded to a target size. Every tenth
+ * project reuses a shared PDF so storage deduplication is exercised too.
+ */
+final class SampleData {
+
+    private static final String[] TOPICS = {
+            "machine learning", "distributed systems", "compiler design", "computer vision",
+            "blockchain", "embedded robotics", "natural language processing", "cloud security"
+    };
+    private static final String[] GUIDES = {
+            "Dr. Rao", "Dr. Mehta", "Prof. Iyer", "Dr. Fernandes", "Prof. Khan", "Dr. Banerjee"
+    };
+
+    private final ObjectMapper json;
+    private final int pdfSize;
+    private final byte[] sharedPdf;
+
+    SampleData(ObjectMapper json, int pdfSize) {
+        this.json = json;
+        this.pdfSize = pdfSize;
+        this.sharedPdf = pdf(-1, "Shared template report");
+    }
+
+    static String student(int i) {
+        return "student" + i;
+    }
+
+    String topic(int i) {
+        return TOPICS[i % TOPICS.length];
+    }
+
+    ObjectNode project(int i, String owner) {
+        String topic = topic(i);
+        ObjectNode node = json.createObjectNode()
+                .put("title", "Applied " + topic + " project " + i)
+                .put("description", "A final-year project on " + topic + " covering design, implementation "
+                        + "and evaluation. Team " + i + " documents milestones and results.")
+                .put("guideName", GUIDES[i % GUIDES.length])
+                .put("coGuideName", GUIDES[(i + 3) % GUIDES.length])
+                .put("email", owner + "@example.edu")
+                .put("url", "https://example.edu/projects/" + i)
+                .put("githubRepo", "https://github.com/example/project-" + i)
+                .put("startDate", LocalDate.of(2025, 1, 6).plusDays(i % 60).toString())
+                .put("finalSubmissionDate", LocalDate.of(2025, 5, 30).plusDays(i % 20).toString())
+                .put("createdBy", owner);
+        node.putArray("students").add(owner).add(owner + "b").add(owner + "c");
+        return node;
+    }
+
+    byte[] pdfFor(int i) {
+        return i % 10 == 0 ? sharedPdf : pdf(i, "Project report " + i);
+    }
+
+    List<String> searchTerms() {
+        List<String> terms = new ArrayList<>(List.of(TOPICS));
+        terms.addAll(List.of(GUIDES));
+        return terms;
+    }
+
+    /** One-page PDF whose text names the project, padded with an unreferenced stream. */
+    private byte[] pdf(int seed, String text) {
+        byte[] padding = new byte[Math.max(0, pdfSize - 900)];
+        new Random(seed).nextBytes(padding);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(pdfSize + 1024);
+        List<Integer> offsets = new ArrayList<>();
+        ascii(out, "%PDF-1.4\n");
+        object(out, offsets, "<< /Type /Catalog /Pages 2 0 R >>");
+        object(out, offsets, "<< /Type /Pages /Kids [3 0 R] /Count 1 >>");
+        object(out, offsets, "<< /Type /Page /Parent 2 0 R /MediaBox [0 0 612 792] /Contents 4 0 R "
+                + "/Resources << /Font << /F1 5 0 R >> >> >>");
+        String content = "BT /F1 14 Tf 72 720 Td (" + text + ") Tj 0 -20 Td (Abstract: an evaluation of "
+                + "the proposed approach.) Tj ET";
+        object(out, offsets, "<< /Length " + content.length() + " >>\nstream\n" + content + "\nendstream");
+        object(out, offsets, "<< /Type /Font /Subtype /Type1 /BaseFont /Helvetica >>");
+        offsets.add(out.size());
+        ascii(out, offsets.size() + " 0 obj\n<< /Length " + padding.length + " >>\nstream\n");
+        out.writeBytes(padding);
+        ascii(out, "\nendstream\nendobj\n");
+
+        int xref = out.size();
+        StringBuilder table = new StringBuilder("xref\n0 ").append(offsets.size() + 1).append("\n0000000000 65535 f \n");
+        offsets.forEach(offset -> table.append(String.format("%010d 00000 n \n", offset)));
+        table.append("trailer\n<< /Size ").append(offsets.size() + 1).append(" /Root 1 0 R >>\nstartxref\n")
+                .append(xref).append("\n%%EOF\n");
+        ascii(out, table.toString());
+        return out.toByteArray();
+    }
+
+    private static void object(ByteArrayOutputStream out, List<Integer> offsets, String body) {
+        offsets.add(out.size());
+        ascii(out, offsets.size() + " 0 obj\n" + body + "\nendobj\n");
+    }
+
+    private static void ascii(ByteArrayOutputStream out, String text) {
+        out.writeBytes(text.getBytes(StandardCharsets.ISO_8859_1));
+    }
+}
@@ -0,0 +1,77 @@
+package com.UAPP.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/** The mixed workloads we expect around a submission deadline. */
+final class Scenarios {
+
+    private final ApiClient api;
+    private final SampleData data;
+    private final Options options;
+    private final Seeder.Seeded seeded;
+    private final Map<Integer, String> studentTokens = new ConcurrentHashMap<>();
+    private final Map<String, String> etags = new ConcurrentHashMap<>();
+
+    Scenarios(ApiClient api, SampleData data, Options options, Seeder.Seeded seeded) {
+        this.api = api;
+        this.data = data;
+        this.options = options;
+        this.seeded = seeded;
+    }
+
+    /** Every student logs in at once, as when a deadline reminder goes out. */
+    LoadRunner.Step loginStorm() {
+        return (worker, random) -> {
+            int student = random.nextInt(options.students());
+            api.login(SampleData.student(student), "secret");
+        };
+    }
+
+    /** Students upload new projects with fresh PDFs. */
+    LoadRunner.Step uploadBurst() {
+        return (worker, random) -> {
+            int student = worker % options.students();
+            String token = studentTokens.computeIfAbsent(student, s -> api.login(SampleData.student(s), "secret"));
+            int n = options.projects() + random.nextInt(1_000_000);
+            api.createProject(token, data.project(n, SampleData.student(student)), data.pdfFor(n));
+        };
+    }
+
+    /**
+     * An admin pages through the list, opens projects (revalidating with the
+     * ETag from the previous visit), reads and adds remarks, and searches.
+     */
+    LoadRunner.Step adminSession() {
+        List<String> ids = seeded.projectIds();
+        List<String> terms = data.searchTerms();
+        String token = seeded.adminToken();
+        return (worker, random) -> {
+            String cursor = null;
+            for (int page = 0; page < 3; page++) {
+                HttpResponse<String> response = api.listAdmin(token, cursor, 50);
+                cursor = response.headers().firstValue("X-Next-Cursor").orElse(null);
+                if (cursor == null) {
+                    break;
+                }
+            }
+
+            String id = ids.get(random.nextInt(ids.size()));
+            HttpResponse<String> detail = api.detail(token, id, etags.get(id));
+            detail.headers().firstValue("ETag").ifPresent(etag -> etags.put(id, etag));
+
+            HttpResponse<String> remarks = api.remarks(token, id);
+            JsonNode timeline = api.read(remarks.body());
+            if (random.nextInt(4) == 0) {
+                api.addRemark(token, id, "Review " + timeline.size() + ": update the results section.");
+            }
+
+            api.search(token, terms.get(random.nextInt(terms.size())));
+            api.importantDates();
+        };
+    }
+}
@@ -0,0 +1,145 @@
+package com.UAPP.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Fills the empty stack through the public API: student accounts, projects
+ * with PDFs via ZIP bulk import, remarks (which also queue notification
+ * mails) and upcoming important dates.
+ */
+final class Seeder {
+
+    private static final int IMPORT_CHUNK = 250;
+    private static final int SEED_THREADS = 16;
+
+    private final ApiClient api;
+    private final SampleData data;
+    private final Options options;
+
+    Seeder(ApiClient api, SampleData data, Options options) {
+        this.api = api;
+        this.data = data;
+        this.options = options;
+    }
+
+    record Seeded(String adminToken, List<String> projectIds) {
+    }
+
+    Seeded seed() throws Exception {
+        log("registering %d students", options.students());
+        parallel(options.students(), i -> retryBusy(() -> api.register(SampleData.student(i), "secret", "STUDENT")));
+
+        String adminToken = api.login(options.adminUser(), options.adminPassword());
+        if (adminToken == null) {
+            throw new IllegalStateException("Admin login failed for " + options.adminUser());
+        }
+
+        log("importing %d projects with %s PDFs", options.projects(), options.pdfSize() / 1024 + "KB");
+        for (int from = 0; from < options.projects(); from += IMPORT_CHUNK) {
+            int to = Math.min(options.projects(), from + IMPORT_CHUNK);
+            HttpResponse<String> response = api.importZip(adminToken, importZip(from, to));
+            JsonNode report = api.read(response.body());
+            if (response.statusCode() != 200 || report.path("failed").asInt() > 0) {
+                throw new IllegalStateException("Import of rows " + from + ".." + to + " failed: " + response.body());
+            }
+        }
+
+        List<String> ids = projectIds(adminToken);
+        log("adding %d remarks across %d projects", options.remarks(), ids.size());
+        parallel(options.remarks(), i -> api.addRemark(adminToken,
+                ids.get(ThreadLocalRandom.current().nextInt(ids.size())), "Seed remark " + i + ": please review section 3."));
+
+        log("adding %d important dates", options.importantDates());
+        Instant now = Instant.now();
+        parallel(options.importantDates(), i -> api.addImportantDate("Milestone " + i,
+                now.plus(Duration.ofDays(1 + i)).toString()));
+
+        return new Seeded(adminToken, Collections.unmodifiableList(ids));
+    }
+
+    private byte[] importZip(int from, int to) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            zip.setLevel(1);
+            StringBuilder manifest = new StringBuilder();
+            for (int i = from; i < to; i++) {
+                String pdfName = "project-" + i + ".pdf";
+                manifest.append(data.project(i, SampleData.student(i % options.students())).put("pdf", pdfName))
+                        .append('\n');
+                zip.putNextEntry(new ZipEntry(pdfName));
+                zip.write(data.pdfFor(i));
+                zip.closeEntry();
+            }
+            zip.putNextEntry(new ZipEntry("manifest.ndjson"));
+            zip.write(manifest.toString().getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private List<String> projectIds(String adminToken) {
+        List<String> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            HttpResponse<String> page = api.listAdmin(adminToken, cursor, 200);
+            api.read(page.body()).forEach(project -> ids.add(project.path("id").asText()));
+            cursor = page.headers().firstValue("X-Next-Cursor").orElse(null);
+        } while (cursor != null);
+        return ids;
+    }
+
+    /** Registration and login answer 503 when the BCrypt pool is saturated; back off and retry. */
+    private static void retryBusy(Supplier<HttpResponse<String>> call) {
+        for (int attempt = 0; attempt < 20; attempt++) {
+            HttpResponse<String> response = call.get();
+            if (response.statusCode() != 503) {
+                return;
+            }
+            long seconds = response.headers().firstValueAsLong("Retry-After").orElse(1);
+            try {
+                Thread.sleep(seconds * 1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private static void parallel(int count, IntConsumer task) throws Exception {
+        try (ExecutorService executor = Executors.newFixedThreadPool(SEED_THREADS)) {
+            List<Future<?>> futures = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> task.accept(index)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+    }
+
+    private static void log(String format, Object... args) {
+        System.out.printf("[seed] " + format + "%n", args);
+    }
+}
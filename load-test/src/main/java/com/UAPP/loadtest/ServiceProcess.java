@@ -0,0 +1,128 @@
+package com.UAPP.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * One service jar running as a child JVM. Output goes to a log file next to
+ * the results, and heap use is sampled from its Prometheus endpoint so each
+ * scenario can report the peak it caused.
+ */
+final class ServiceProcess implements AutoCloseable {
+
+    private static final Pattern HEAP_USED = Pattern.compile(
+            "^jvm_memory_used_bytes\\{[^}]*area=\"heap\"[^}]*}\\s+(\\S+)", Pattern.MULTILINE);
+
+    private final String name;
+    private final Process process;
+    private final URI baseUri;
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+    private final ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "heap-sampler");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicLong heapPeak = new AtomicLong();
+
+    private ServiceProcess(String name, Process process, int port) {
+        this.name = name;
+        this.process = process;
+        this.baseUri = URI.create("http://localhost:" + port);
+    }
+
+    static ServiceProcess start(String name, Path jar, int port, Map<String, String> env,
+                                List<String> jvmArgs, Path logDir) throws IOException {
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalStateException(jar.toAbsolutePath() + " not found; run mvn package in the service first");
+        }
+        Files.createDirectories(logDir);
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        command.add("-jar");
+        command.add(jar.toAbsolutePath().toString());
+        command.add("--server.port=" + port);
+
+        ProcessBuilder builder = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logDir.resolve(name + ".log").toFile());
+        builder.environment().putAll(env);
+        return new ServiceProcess(name, builder.start(), port);
+    }
+
+    String name() {
+        return name;
+    }
+
+    URI uri(String path) {
+        return baseUri.resolve(path);
+    }
+
+    void awaitReady(Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException(name + " exited with " + process.exitValue() + "; see its log");
+            }
+            try {
+                HttpResponse<String> response = http.send(HttpRequest.newBuilder(uri("/actuator/health")).build(),
+                        HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() == 200 && response.body().contains("\"UP\"")) {
+                    sampler.scheduleAtFixedRate(this::sampleHeap, 0, 250, TimeUnit.MILLISECONDS);
+                    return;
+                }
+            } catch (IOException e) {
+                // not listening yet
+            }
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException(name + " did not become healthy within " + timeout);
+    }
+
+    /** Peak heap since the previous call, in bytes. */
+    long takeHeapPeak() {
+        sampleHeap();
+        return heapPeak.getAndSet(0);
+    }
+
+    private void sampleHeap() {
+        try {
+            HttpResponse<String> response = http.send(HttpRequest.newBuilder(uri("/actuator/prometheus")).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            long used = 0;
+            Matcher matcher = HEAP_USED.matcher(response.body());
+            while (matcher.find()) {
+                used += (long) Double.parseDouble(matcher.group(1));
+            }
+            heapPeak.accumulateAndGet(used, Math::max);
+        } catch (IOException | RuntimeException e) {
+            // a missed sample only lowers the resolution
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        sampler.shutdownNow();
+        process.destroy();
+        if (!process.waitFor(20, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+        }
+    }
+}
@@ -0,0 +1,206 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Closed-loop load generator used to compare the platform and virtual thread
+ * modes of auth-service and submissionService.
+ *
+ * Start both services with VIRTUAL_THREADS=false, run this with a label, then
+ * restart them with VIRTUAL_THREADS=true and run it again with another label.
+ * Each run appends one row per endpoint to the results CSV:
+ *
+ *   java perf/ThreadModeBenchmark.java --label platform --user alice --password secret \
+ *       --project-id 665f... --concurrency 400 --duration 30s
+ *
+ * Options (defaults in brackets):
+ *   --auth-url [http://localhost:8082]   --submission-url [http://localhost:8081]
+ *   --user, --password                    credentials used for /login and the token
+ *   --project-id                          project with a PDF, for /{id}/pdf
+ *   --concurrency [200]  --warmup [10s]  --duration [30s]
+ *   --label [run]        --out [perf/results.csv]
+ *
+ * Start the services with -Djdk.tracePinnedThreads=short to have the JVM
+ * print a stack trace whenever a virtual thread pins its carrier.
+ */
+public class ThreadModeBenchmark {
+
+    private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> opts = parse(args);
+        String authUrl = opts.getOrDefault("auth-url", "http://localhost:8082");
+        String submissionUrl = opts.getOrDefault("submission-url", "http://localhost:8081");
+        String user = required(opts, "user");
+        String password = required(opts, "password");
+        String projectId = required(opts, "project-id");
+        int concurrency = Integer.parseInt(opts.getOrDefault("concurrency", "200"));
+        Duration warmup = duration(opts.getOrDefault("warmup", "10s"));
+        Duration measure = duration(opts.getOrDefault("duration", "30s"));
+        String label = opts.getOrDefault("label", "run");
+        Path out = Path.of(opts.getOrDefault("out", "perf/results.csv"));
+
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        String loginBody = "{\"username\":\"" + user + "\",\"password\":\"" + password + "\"}";
+        HttpRequest login = HttpRequest.newBuilder(URI.create(authUrl + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(loginBody))
+                .build();
+        String token = token(client.send(login, HttpResponse.BodyHandlers.ofString()));
+
+        Map<String, HttpRequest> scenarios = new LinkedHashMap<>();
+        scenarios.put("GET /api/projects/my", HttpRequest.newBuilder(URI.create(submissionUrl + "/api/projects/my"))
+                .header("Authorization", "Bearer " + token).GET().build());
+        scenarios.put("GET /api/projects/{id}/pdf", HttpRequest.newBuilder(
+                        URI.create(submissionUrl + "/api/projects/" + projectId + "/pdf"))
+                .header("Authorization", "Bearer " + token).GET().build());
+        scenarios.put("POST /api/auth/login", login);
+
+        System.out.printf("%-28s %10s %8s %10s %9s %9s %9s%n",
+                "endpoint [" + label + "]", "requests", "errors", "req/s", "p50 ms", "p99 ms", "max ms");
+        List<String> rows = new ArrayList<>();
+        for (Map.Entry<String, HttpRequest> scenario : scenarios.entrySet()) {
+            run(client, scenario.getValue(), concurrency, warmup);
+            Result result = run(client, scenario.getValue(), concurrency, measure);
+            System.out.printf("%-28s %10d %8d %10.1f %9.1f %9.1f %9.1f%n", scenario.getKey(),
+                    result.requests(), result.errors(), result.throughput(),
+                    result.percentile(0.50), result.percentile(0.99), result.percentile(1.0));
+            rows.add(String.join(",", label, scenario.getKey(), String.valueOf(concurrency),
+                    String.valueOf(result.requests()), String.valueOf(result.errors()),
+                    String.format("%.1f", result.throughput()),
+                    String.format("%.2f", result.percentile(0.50)),
+                    String.format("%.2f", result.percentile(0.99))));
+        }
+        append(out, rows);
+    }
+
+    private static Result run(HttpClient client, HttpRequest request, int concurrency, Duration duration)
+            throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        LongAdder errors = new LongAdder();
+        List<Future<long[]>> workers = new ArrayList<>();
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                workers.add(executor.submit(() -> {
+                    long[] samples = new long[1024];
+                    int count = 0;
+                    while (System.nanoTime() < deadline) {
+                        long sent = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 400) {
+                                errors.increment();
+                            }
+                        } catch (IOException e) {
+                            errors.increment();
+                        }
+                        if (count == samples.length) {
+                            samples = Arrays.copyOf(samples, count * 2);
+                        }
+                        samples[count++] = System.nanoTime() - sent;
+                    }
+                    return Arrays.copyOf(samples, count);
+                }));
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        long[] all = new long[0];
+        for (Future<long[]> worker : workers) {
+            long[] samples = worker.get();
+            int offset = all.length;
+            all = Arrays.copyOf(all, offset + samples.length);
+            System.arraycopy(samples, 0, all, offset, samples.length);
+        }
+        Arrays.sort(all);
+        return new Result(all, errors.sum(), elapsed);
+    }
+
+    private record Result(long[] sortedNanos, long errors, long elapsedNanos) {
+        long requests() {
+            return sortedNanos.length;
+        }
+
+        double throughput() {
+            return sortedNanos.length / (elapsedNanos / 1e9);
+        }
+
+        double percentile(double p) {
+            if (sortedNanos.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(p * sortedNanos.length) - 1;
+            return sortedNanos[Math.max(0, index)] / 1e6;
+        }
+    }
+
+    private static String token(HttpResponse<String> response) {
+        Matcher matcher = TOKEN.matcher(response.body());
+        if (response.statusCode() != 200 || !matcher.find()) {
+            throw new IllegalStateException("Login failed: " + response.statusCode() + " " + response.body());
+        }
+        return matcher.group(1);
+    }
+
+    private static void append(Path out, List<String> rows) {
+        try {
+            if (out.getParent() != null) {
+                Files.createDirectories(out.getParent());
+            }
+            if (Files.notExists(out)) {
+                Files.writeString(out, "label,endpoint,concurrency,requests,errors,throughput,p50_ms,p99_ms\n");
+            }
+            Files.write(out, rows, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> opts = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument " + args[i]);
+            }
+            opts.put(args[i].substring(2), args[i + 1]);
+        }
+        return opts;
+    }
+
+    private static String required(Map<String, String> opts, String name) {
+        String value = opts.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException("--" + name + " is required");
+        }
+        return value;
+    }
+
+    private static Duration duration(String value) {
+        return Duration.parse("PT" + value.toUpperCase());
+    }
+}
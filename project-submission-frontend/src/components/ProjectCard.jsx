@@ -1,19 +1,37 @@
 import React from 'react';
 import PropTypes from 'prop-types';
+
+const API = import.meta.env.VITE_PROJECTS;
+
 function ProjectCard({ project, onClick }) {
+    // Preview fields come with the list response; the PDF itself is never fetched here
+    const hasThumbnail = project.id && project.pageCount > 0;
     return (
         <div className="card" onClick={onClick}>
+            {hasThumbnail && (
+                <img
+                    src={`${API}/${project.id}/thumbnail`}
+                    alt={`First page of ${project.title}`}
+                    loading="lazy"
+                    width={120}
+                />
+            )}
             <h3>{project.title}</h3>
             <p>{project.description}</p>
+            {project.pageCount > 0 && <small>{project.pageCount} page PDF</small>}
+            {project.snippet && <p><em>{project.snippet}</em></p>}
         </div>
     );
 }
 ProjectCard.propTypes = {
     project: PropTypes.shape({
+        id: PropTypes.string,
         title: PropTypes.string.isRequired,
         description: PropTypes.string.isRequired,
         startDate: PropTypes.string,      // optional if used elsewhere
-        guideName: PropTypes.string       // optional if used elsewhere
+        guideName: PropTypes.string,      // optional if used elsewhere
+        pageCount: PropTypes.number,
+        snippet: PropTypes.string
     }).isRequired,
     onClick: PropTypes.func.isRequired
 };
@@ -1,6 +1,7 @@
 import { useEffect, useState } from "react";
 import { useNavigate, useParams } from "react-router-dom";
 import axios from "axios";
+import { uploadPdfResumable } from "../services/ProjectService";
 
 const Project_URL = import.meta.env.VITE_PROJECTS;
 
@@ -48,7 +49,6 @@ const EditProject = () => {
             "project",
             new Blob([JSON.stringify(project)], { type: "application/json" })
         );
-        if (pdfFile) formData.append("file", pdfFile);
 
         try {
             await axios.put(`${Project_URL}/${id}`, formData, {
@@ -57,6 +57,8 @@ const EditProject = () => {
                     "Content-Type": "multipart/form-data",
                 },
             });
+            // The PDF goes separately so a dropped connection resumes instead of restarting
+            if (pdfFile) await uploadPdfResumable(id, pdfFile);
             alert("Project updated successfully!");
             navigate(`/student/project/${id}`);
         } catch (err) {
@@ -12,6 +12,7 @@ const ProjectDetail = () => {
     const { id } = useParams();
     const navigate = useNavigate();
     const [project, setProject] = useState(null);
+    const [remarks, setRemarks] = useState([]);
     const [pdfFile, setPdfFile] = useState(null);
     const Project_URL = import.meta.env.VITE_PROJECTS;
     const GitView = import.meta.env.VITE_GITVIEW;
@@ -35,8 +36,30 @@ const ProjectDetail = () => {
             .catch((err) => console.error('Error loading project', err));
     };
 
+    // 🔹 Remarks come from their own paginated timeline (newest first); follow every page
+    // and show them oldest first, as they were listed when embedded in the project
+    const loadRemarks = async () => {
+        const token = sessionStorage.getItem('token');
+        try {
+            const items = [];
+            let cursor;
+            do {
+                const res = await axios.get(`${Project_URL}/${id}/remarks`, {
+                    headers: { Authorization: `Bearer ${token}` },
+                    params: { size: 100, ...(cursor ? { cursor } : {}) },
+                });
+                items.push(...res.data);
+                cursor = res.headers['x-next-cursor'];
+            } while (cursor);
+            setRemarks(items.reverse());
+        } catch (err) {
+            console.error('Error loading remarks', err);
+        }
+    };
+
     useEffect(() => {
         loadProject();
+        loadRemarks();
     }, [id]);
 
     // Set document title on mount
@@ -62,6 +85,7 @@ const ProjectDetail = () => {
                 headers: { Authorization: `Bearer ${token}` }
             });
             setProject(res.data);
+            loadRemarks();
 
         } catch (e) {
             console.error("Add remark error", e);
@@ -301,8 +325,8 @@ const ProjectDetail = () => {
                         </div>
 
                         <div className="pd-list-container">
-                            {project.remarks && project.remarks.length > 0 ? (
-                                project.remarks.map((remark, idx) => (
+                            {remarks.length > 0 ? (
+                                remarks.map((remark, idx) => (
                                     <div key={idx} className="pd-list-item">
                                         <div className="pd-list-marker"></div>
                                         <div>
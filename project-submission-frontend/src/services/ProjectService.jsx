@@ -4,7 +4,21 @@ import api from './axiosInstance';
 const API = import.meta.env.VITE_PROJECTS;
 const token = () => sessionStorage.getItem('token');
 
-export const getMyProjects = () => api.get('/projects/my');
+const PAGE_SIZE = 200;
+
+// Listings are keyset-paged; keep requesting while the server sends a continuation cursor
+const fetchAllPages = async (request) => {
+    const items = [];
+    let cursor;
+    do {
+        const res = await request({ size: PAGE_SIZE, ...(cursor ? { cursor } : {}) });
+        items.push(...res.data);
+        cursor = res.headers['x-next-cursor'];
+    } while (cursor);
+    return { data: items };
+};
+
+export const getMyProjects = () => fetchAllPages((params) => api.get('/projects/my', { params }));
 export const createProject = (formData) =>
     axios.post(API, formData, {
         headers: {
@@ -12,6 +26,37 @@ export const createProject = (formData) =>
             Authorization: `Bearer ${token()}`
         }
     });
-export const getAllProjects = () => api.get('/projects');
+export const getAllProjects = () => fetchAllPages((params) => api.get('/projects', { params }));
 export const getAllProjectsAdmin = () =>
-    axios.get(`${API}/admin`, { headers: { Authorization: `Bearer ${token()}` } });
+    fetchAllPages((params) => axios.get(`${API}/admin`, { params, headers: { Authorization: `Bearer ${token()}` } }));
+
+const CHUNK_SIZE = 2 * 1024 * 1024;
+const MAX_RETRIES = 5;
+
+// Sends a summary PDF in chunks; after a network error it asks the server how much arrived and continues from there
+export const uploadPdfResumable = async (projectId, file, onProgress) => {
+    const headers = { Authorization: `Bearer ${token()}` };
+    const { data: session } = await axios.post(`${API}/${projectId}/uploads`,
+        { filename: file.name, size: file.size }, { headers });
+
+    let offset = 0;
+    let retries = 0;
+    while (offset < file.size) {
+        try {
+            const chunk = file.slice(offset, Math.min(offset + CHUNK_SIZE, file.size));
+            const { data } = await axios.put(`${API}/uploads/${session.id}`, chunk, {
+                params: { offset },
+                headers: { ...headers, 'Content-Type': 'application/octet-stream' },
+            });
+            offset = data.received;
+            retries = 0;
+            if (onProgress) onProgress(offset / file.size);
+        } catch (err) {
+            if (++retries > MAX_RETRIES || (err.response && err.response.status !== 409)) throw err;
+            await new Promise((resolve) => setTimeout(resolve, 1000 * retries));
+            const { data } = await axios.get(`${API}/uploads/${session.id}`, { headers });
+            offset = data.received;
+        }
+    }
+    return axios.post(`${API}/uploads/${session.id}/complete`, null, { headers });
+};
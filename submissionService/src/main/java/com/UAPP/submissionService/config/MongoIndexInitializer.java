@@ -0,0 +1,98 @@
+package com.UAPP.submissionService.config;
+
+import com.mongodb.MongoCommandException;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexOptions;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Creates the indexes declared on {@code @Document} classes at startup and
+ * checks that they exist afterwards. Replaces Spring Data's implicit
+ * auto-index-creation so every index build is logged with its duration, and a
+ * failure (e.g. duplicates blocking a unique index) is reported instead of
+ * silently leaving the collection unindexed.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MongoIndexInitializer {
+
+    private static final int INDEX_OPTIONS_CONFLICT = 85;
+
+    private final MongoTemplate mongoTemplate;
+
+    @PostConstruct
+    public void ensureIndexes() {
+        MongoMappingContext mappingContext = (MongoMappingContext) mongoTemplate.getConverter().getMappingContext();
+        MongoPersistentEntityIndexResolver resolver = new MongoPersistentEntityIndexResolver(mappingContext);
+
+        for (MongoPersistentEntity<?> entity : mappingContext.getPersistentEntities()) {
+            if (entity.isAnnotationPresent(Document.class)) {
+                ensureIndexes(entity, resolver);
+            }
+        }
+    }
+
+    private void ensureIndexes(MongoPersistentEntity<?> entity, MongoPersistentEntityIndexResolver resolver) {
+        IndexOperations indexOps = mongoTemplate.indexOps(entity.getCollection());
+        List<IndexDefinition> declared = new ArrayList<>();
+        resolver.resolveIndexFor(entity.getTypeInformation()).forEach(declared::add);
+        if (declared.isEmpty()) {
+            return;
+        }
+
+        for (IndexDefinition index : declared) {
+            long start = System.nanoTime();
+            try {
+                String name = indexOps.createIndex(index);
+                log.info("Index {}.{} ready in {} ms", entity.getCollection(), name,
+                        (System.nanoTime() - start) / 1_000_000);
+            } catch (RuntimeException e) {
+                if (!alterExpiry(indexOps, index, e)) {
+                    log.error("Could not create index {} on {}", index.getIndexKeys().toJson(), entity.getCollection(), e);
+                }
+            }
+        }
+
+        verify(indexOps, declared, entity.getCollection());
+    }
+
+    // A TTL index whose retention changed cannot be recreated in place; collMod its expiry instead
+    private boolean alterExpiry(IndexOperations indexOps, IndexDefinition index, RuntimeException e) {
+        String name = index.getIndexOptions().getString("name");
+        Object expireAfter = index.getIndexOptions().get("expireAfterSeconds");
+        if (!(e.getCause() instanceof MongoCommandException command) || command.getErrorCode() != INDEX_OPTIONS_CONFLICT
+                || name == null || !(expireAfter instanceof Number seconds)) {
+            return false;
+        }
+        indexOps.alterIndex(name, IndexOptions.expireAfter(Duration.ofSeconds(seconds.longValue())));
+        log.info("Index {} expiry changed to {} s", name, seconds);
+        return true;
+    }
+
+    private void verify(IndexOperations indexOps, List<IndexDefinition> declared, String collection) {
+        Set<String> present = indexOps.getIndexInfo().stream().map(IndexInfo::getName).collect(Collectors.toSet());
+        for (IndexDefinition index : declared) {
+            String name = index.getIndexOptions().getString("name");
+            if (name != null && !present.contains(name)) {
+                log.warn("Index {} missing on {}; queries on it will scan the collection", name, collection);
+            }
+        }
+    }
+}
@@ -23,7 +23,8 @@ public class WebConfig implements WebMvcConfigurer {
                                        "http://localhost:3000",
                                        "https://unified-academic-project-platform.vercel.app",
                                        "https://uapp.cse25.tech")
-                .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
+                .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")
+                .exposedHeaders("X-Next-Cursor")
                 .allowCredentials(true);
     }
 
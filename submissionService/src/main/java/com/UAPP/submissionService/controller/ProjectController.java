@@ -1,28 +1,62 @@
 package com.UAPP.submissionService.controller;
 
 import com.UAPP.submissionService.dto.AddRemarkRequest;
+import com.UAPP.submissionService.dto.ExportFormat;
+import com.UAPP.submissionService.dto.ImportReport;
+import com.UAPP.submissionService.dto.PdfStorageStats;
+import com.UAPP.submissionService.dto.ProjectFilter;
+import com.UAPP.submissionService.dto.ProjectPage;
+import com.UAPP.submissionService.dto.ProjectPreview;
 import com.UAPP.submissionService.dto.ProjectRequest;
+import com.UAPP.submissionService.dto.ProjectStats;
+import com.UAPP.submissionService.dto.ProjectSummary;
+import com.UAPP.submissionService.dto.RemarkPage;
+import com.UAPP.submissionService.dto.UploadSessionRequest;
+import com.UAPP.submissionService.model.PdfAttachment;
+import com.UAPP.submissionService.model.PdfPreview;
+import com.UAPP.submissionService.model.PreviewStatus;
 import com.UAPP.submissionService.model.Project;
 import com.UAPP.submissionService.model.Remark;
+import com.UAPP.submissionService.model.UploadSession;
 import com.UAPP.submissionService.repository.ProjectRepository;
-import com.UAPP.submissionService.service.EmailService;
+import com.UAPP.submissionService.security.AuthenticatedUser;
+import com.UAPP.submissionService.service.EmailOutboxService;
+import com.UAPP.submissionService.service.PdfPreviewService;
+import com.UAPP.submissionService.service.PdfUploadService;
+import com.UAPP.submissionService.service.PdfStorageService;
+import com.UAPP.submissionService.service.ProjectCounterService;
+import com.UAPP.submissionService.service.ProjectExportService;
+import com.UAPP.submissionService.service.ProjectImportService;
 import com.UAPP.submissionService.service.ProjectService;
-import com.UAPP.submissionService.util.JwtUtil;
+import com.UAPP.submissionService.service.RemarkService;
+import com.UAPP.submissionService.service.StoredPdfResource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -32,44 +66,62 @@ import java.util.UUID;
     "http://localhost:5173",
     "http://localhost:3000",
     "https://unified-academic-project-platform.vercel.app"
-})
+}, exposedHeaders = ProjectController.NEXT_CURSOR_HEADER)
 public class ProjectController {
 
-    @Autowired
-    private JwtUtil jwtUtil;
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final String NDJSON_VALUE = "application/x-ndjson";
+    private static final String ZIP_VALUE = "application/zip";
+
     @Autowired
     private ProjectService projectService;
     @Autowired
-    private EmailService emailService;
+    private EmailOutboxService emailOutboxService;
+    @Autowired
+    private RemarkService remarkService;
     @Autowired
     private ProjectRepository projectRepository;
+    @Autowired
+    private PdfStorageService pdfStorageService;
+    @Autowired
+    private ProjectExportService projectExportService;
+    @Autowired
+    private ProjectImportService projectImportService;
+    @Autowired
+    private PdfPreviewService pdfPreviewService;
+    @Autowired
+    private ProjectCounterService projectCounterService;
+    @Autowired
+    private PdfUploadService pdfUploadService;
 
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<Project> addProject(
             @RequestPart("project") ProjectRequest request,
             @RequestPart("file") MultipartFile file,
-            @RequestHeader("Authorization") String token) throws IOException {
+            @AuthenticationPrincipal AuthenticatedUser user) throws IOException {
+        if (user == null) return ResponseEntity.status(401).build();
 
-        String username = jwtUtil.extractUsername(token.substring(7));
-        byte[] pdfBytes = file.getBytes();
-
-        Project project = projectService.createProject(request, pdfBytes, username);
+        Project project = projectService.createProject(request, file, user.username());
 
         return ResponseEntity.ok(project);
     }
 
     @GetMapping("/my")
-    public ResponseEntity<List<Project>> getMyProjects(@RequestHeader("Authorization") String token) {
-        String jwt = token.substring(7); // remove "Bearer "
-        String username = jwtUtil.extractUsername(jwt);
-
-        // If the logged-in user is the hardcoded admin
-        if ("admin".equalsIgnoreCase(username)) {
-            return ResponseEntity.ok(projectService.getAllProjects());
+    public ResponseEntity<List<ProjectSummary>> getMyProjects(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @ModelAttribute ProjectFilter filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String direction) {
+        if (user == null) return ResponseEntity.status(401).build();
+
+        // For students, show only their own; admins see everything
+        if (!user.isAdmin()) {
+            filter.setCreatedBy(user.username());
         }
 
-        // For students, show only their own
-        return ResponseEntity.ok(projectService.getProjectsByStudent(username));
+        return page(projectService.listProjects(filter, sort, direction, cursor, size));
     }
     @PutMapping("/{id}")
     public ResponseEntity<Project> updateProject(
@@ -77,65 +129,347 @@ public class ProjectController {
             @RequestPart("project") ProjectRequest request,
             @RequestPart(value = "file", required = false) MultipartFile file) {
 
-        byte[] pdfBytes = null;
-        if (file != null && !file.isEmpty()) {
-            try {
-                pdfBytes = file.getBytes();
-            } catch (IOException e) {
-                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
-            }
+        try {
+            Project updatedProject = projectService.updateProject(id, request, file);
+            return ResponseEntity.ok(updatedProject);
+        } catch (IOException e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @PatchMapping(value = "/{id}", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Project> patchProject(
+            @PathVariable String id,
+            @RequestBody Map<String, Object> changes,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        if (user == null) return ResponseEntity.status(401).build();
+
+        Project owner = projectRepository.findOwnerById(id).orElse(null);
+        if (owner == null) return ResponseEntity.notFound().build();
+        if (!user.isAdmin() && !user.username().equals(owner.getCreatedBy())) {
+            return ResponseEntity.status(403).build();
         }
 
-        Project updatedProject = projectService.updateProject(id, request, pdfBytes);
-        return ResponseEntity.ok(updatedProject);
+        return projectService.patchProject(id, changes)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     @GetMapping("/{id}/pdf")
-    public ResponseEntity<byte[]> getPdf(@PathVariable String id) {
-        Project project = projectRepository.findById(id).orElse(null);
+    public ResponseEntity<Resource> getPdf(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange) {
+        PdfAttachment pdf = projectRepository.findSummaryPdfById(id)
+                .map(Project::getSummaryPdf)
+                .orElse(null);
 
-        if (project == null || project.getProjectSummaryPdf() == null) {
+        if (pdf == null) {
             return ResponseEntity.notFound().build();
         }
 
-        return ResponseEntity.ok()
+        // ETag/Last-Modified on a 200 entity let Spring answer If-None-Match and
+        // If-Modified-Since with 304 before the GridFS stream is ever opened.
+        String etag = "\"" + pdf.getSha256() + "\"";
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
                 .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=summary.pdf")
                 .contentType(MediaType.APPLICATION_PDF)
-                .body(project.getProjectSummaryPdf().getData());
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate());
+        if (pdf.getUploadedAt() != null) {
+            response.lastModified(pdf.getUploadedAt());
+        }
+
+        StoredPdfResource resource = pdfStorageService.openResource(pdf);
+        if (ifRange != null && !ifRangeMatches(ifRange, etag, pdf)) {
+            // Stale If-Range validator: ignore Range and send the whole file.
+            // A plain InputStreamResource is not eligible for range handling.
+            return response.contentLength(pdf.getSize())
+                    .body(new InputStreamResource(resource));
+        }
+        return response.body(resource);
+    }
+
+    // Resumable PDF upload: open a session, PUT consecutive chunks at the acknowledged offset, then complete
+    @PostMapping(value = "/{id}/uploads", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<UploadSession> createUpload(
+            @PathVariable String id,
+            @RequestBody UploadSessionRequest request,
+            @AuthenticationPrincipal AuthenticatedUser user) throws IOException {
+        if (user == null) return ResponseEntity.status(401).build();
+
+        Project owner = projectRepository.findOwnerById(id).orElse(null);
+        if (owner == null) return ResponseEntity.notFound().build();
+        if (!user.isAdmin() && !user.username().equals(owner.getCreatedBy())) {
+            return ResponseEntity.status(403).build();
+        }
+
+        UploadSession session = pdfUploadService.create(id, user.username(), request.getFilename(), request.getSize());
+        return ResponseEntity.status(HttpStatus.CREATED).body(session);
+    }
+
+    @GetMapping("/uploads/{uploadId}")
+    public ResponseEntity<UploadSession> getUpload(
+            @PathVariable String uploadId,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        if (user == null) return ResponseEntity.status(401).build();
+
+        UploadSession session = pdfUploadService.find(uploadId).orElse(null);
+        if (session == null) return ResponseEntity.notFound().build();
+        if (!canWrite(user, session)) return ResponseEntity.status(403).build();
+
+        return ResponseEntity.ok(session);
+    }
+
+    @PutMapping(value = "/uploads/{uploadId}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<UploadSession> uploadChunk(
+            @PathVariable String uploadId,
+            @RequestParam long offset,
+            InputStream body,
+            @AuthenticationPrincipal AuthenticatedUser user) throws IOException {
+        if (user == null) return ResponseEntity.status(401).build();
+
+        UploadSession session = pdfUploadService.find(uploadId).orElse(null);
+        if (session == null) return ResponseEntity.notFound().build();
+        if (!canWrite(user, session)) return ResponseEntity.status(403).build();
+
+        return ResponseEntity.ok(pdfUploadService.append(session, offset, body));
+    }
+
+    @PostMapping("/uploads/{uploadId}/complete")
+    public ResponseEntity<Project> completeUpload(
+            @PathVariable String uploadId,
+            @AuthenticationPrincipal AuthenticatedUser user) throws IOException {
+        if (user == null) return ResponseEntity.status(401).build();
+
+        UploadSession session = pdfUploadService.find(uploadId).orElse(null);
+        if (session == null) return ResponseEntity.notFound().build();
+        if (!canWrite(user, session)) return ResponseEntity.status(403).build();
+
+        return ResponseEntity.ok(pdfUploadService.complete(session));
+    }
+
+    @DeleteMapping("/uploads/{uploadId}")
+    public ResponseEntity<Void> abortUpload(
+            @PathVariable String uploadId,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        if (user == null) return ResponseEntity.status(401).build();
+
+        UploadSession session = pdfUploadService.find(uploadId).orElse(null);
+        if (session == null) return ResponseEntity.notFound().build();
+        if (!canWrite(user, session)) return ResponseEntity.status(403).build();
+
+        pdfUploadService.abort(session);
+        return ResponseEntity.noContent().build();
+    }
+
+    private static boolean canWrite(AuthenticatedUser user, UploadSession session) {
+        return user.isAdmin() || user.username().equals(session.getOwner());
+    }
+
+    @GetMapping("/{id}/preview")
+    public ResponseEntity<ProjectPreview> getPreview(@PathVariable String id) {
+        PdfAttachment pdf = projectRepository.findSummaryPdfById(id)
+                .map(Project::getSummaryPdf)
+                .orElse(null);
+        if (pdf == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        boolean ready = pdf.getPreviewStatus() == PreviewStatus.READY;
+        return ResponseEntity.ok(ProjectPreview.builder()
+                .projectId(id)
+                .filename(pdf.getFilename())
+                .size(pdf.getSize())
+                .status(pdf.getPreviewStatus())
+                .pageCount(pdf.getPageCount())
+                .snippet(pdf.getSnippet())
+                .thumbnail(ready && pdf.getPageCount() != null && pdf.getPageCount() > 0)
+                .build());
     }
 
+    @GetMapping("/{id}/thumbnail")
+    public ResponseEntity<byte[]> getThumbnail(@PathVariable String id, WebRequest request) {
+        PdfAttachment pdf = projectRepository.findSummaryPdfById(id)
+                .map(Project::getSummaryPdf)
+                .orElse(null);
+        if (pdf == null || pdf.getPreviewStatus() != PreviewStatus.READY) {
+            return ResponseEntity.notFound().build();
+        }
+
+        // Thumbnails are derived from the bytes, so the content hash identifies them
+        String etag = "\"thumb-" + pdf.getSha256() + "\"";
+        CacheControl cacheControl = CacheControl.noCache().cachePrivate();
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+        }
+
+        PdfPreview preview = pdfPreviewService.findPreview(pdf.getSha256());
+        if (preview == null || preview.getThumbnail() == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.IMAGE_PNG)
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .body(preview.getThumbnail());
+    }
 
+    private static boolean ifRangeMatches(String ifRange, String etag, PdfAttachment pdf) {
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(etag);
+        }
+        try {
+            long since = ZonedDateTime.parse(ifRange, DateTimeFormatter.RFC_1123_DATE_TIME).toEpochSecond();
+            return pdf.getUploadedAt() != null && pdf.getUploadedAt().getEpochSecond() == since;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
 
     @GetMapping("/{projectId}")
-    public ResponseEntity<Project> getProjectById(@PathVariable String projectId) {
+    public ResponseEntity<Project> getProjectById(
+            @PathVariable String projectId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            WebRequest request) {
+        // Revalidation only needs the version: answer 304 without loading the document
+        if (ifNoneMatch != null) {
+            Long version = projectRepository.findVersionById(projectId)
+                    .orElseThrow(() -> new RuntimeException("Project not found"))
+                    .getVersion();
+            if (version != null && request.checkNotModified(versionTag(version))) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(versionTag(version))
+                        .cacheControl(CacheControl.noCache().cachePrivate())
+                        .build();
+            }
+        }
+
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new RuntimeException("Project not found"));
-        return ResponseEntity.ok(project);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate());
+        if (project.getVersion() != null) {
+            response.eTag(versionTag(project.getVersion()));
+        }
+        return response.body(project);
+    }
+
+    // Every write path bumps Project.version, so it identifies the representation
+    private static String versionTag(long version) {
+        return "\"v" + version + "\"";
     }
 
 
     @GetMapping
-    public ResponseEntity<List<Project>> getAllProjects() {
-        return ResponseEntity.ok(projectService.getAllProjects());
+    public ResponseEntity<List<ProjectSummary>> getAllProjects(
+            @ModelAttribute ProjectFilter filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String direction) {
+        return page(projectService.listProjects(filter, sort, direction, cursor, size));
+    }
+
+    @GetMapping("/pdf-stats")
+    public ResponseEntity<PdfStorageStats> getPdfStorageStats(@AuthenticationPrincipal AuthenticatedUser user) {
+        if (user == null) return ResponseEntity.status(401).build();
+        if (!user.isAdmin()) return ResponseEntity.status(403).build();
+        return ResponseEntity.ok(pdfStorageService.stats());
+    }
+
+    /** Totals from the incrementally maintained counters document; no collection scan. */
+    @GetMapping("/stats/summary")
+    public ResponseEntity<ProjectStats> getStatsSummary(@AuthenticationPrincipal AuthenticatedUser user) {
+        if (user == null) return ResponseEntity.status(401).build();
+        if (!user.isAdmin()) return ResponseEntity.status(403).build();
+        return ResponseEntity.ok(projectCounterService.summary());
+    }
+
+    /** Totals plus per-guide and per-submission-month breakdowns, aggregated on the server. */
+    @GetMapping("/stats")
+    public ResponseEntity<ProjectStats> getStats(@AuthenticationPrincipal AuthenticatedUser user) {
+        if (user == null) return ResponseEntity.status(401).build();
+        if (!user.isAdmin()) return ResponseEntity.status(403).build();
+        return ResponseEntity.ok(projectRepository.aggregateStats());
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<ProjectSummary>> searchProjects(
+            @RequestParam String q,
+            @ModelAttribute ProjectFilter filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return page(projectService.searchProjects(q, filter, cursor, size));
     }
 
     @GetMapping("/admin")
-    public ResponseEntity<List<Project>> getAllProjectsForAdmin(@RequestHeader("Authorization") String authHeader) {
-        String token = authHeader.substring(7);
-        if (!jwtUtil.isAdmin(token)) return ResponseEntity.status(403).build();
-        return ResponseEntity.ok(projectService.getAllProjects());
+    public ResponseEntity<List<ProjectSummary>> getAllProjectsForAdmin(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @ModelAttribute ProjectFilter filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String direction) {
+        if (user == null) return ResponseEntity.status(401).build();
+        if (!user.isAdmin()) return ResponseEntity.status(403).build();
+        return page(projectService.listProjects(filter, sort, direction, cursor, size));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportProjects(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @ModelAttribute ProjectFilter filter,
+            @RequestParam(required = false) String format) {
+        if (user == null) return ResponseEntity.status(401).build();
+        if (!user.isAdmin()) return ResponseEntity.status(403).build();
+
+        ExportFormat exportFormat;
+        try {
+            exportFormat = ExportFormat.fromParam(format);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+
+        StreamingResponseBody body = out -> projectExportService.export(filter, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=projects." + exportFormat.getParam())
+                .body(body);
+    }
+
+    @PostMapping(value = "/import", consumes = {NDJSON_VALUE, ZIP_VALUE})
+    public ResponseEntity<ImportReport> importProjects(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body) throws IOException {
+        if (user == null) return ResponseEntity.status(401).build();
+        if (!user.isAdmin()) return ResponseEntity.status(403).build();
+
+        ImportReport report = MediaType.parseMediaType(ZIP_VALUE).includes(contentType)
+                ? projectImportService.importZip(body, user.username())
+                : projectImportService.importNdjson(body, user.username());
+        return ResponseEntity.ok(report);
+    }
+
+    // Pages keep the plain JSON array body; the continuation token travels in a header.
+    private ResponseEntity<List<ProjectSummary>> page(ProjectPage page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteProject(@PathVariable String id, @RequestHeader("Authorization") String authHeader) {
-        String token = authHeader.substring(7);
-        String username = jwtUtil.extractUsername(token);
+    public ResponseEntity<Void> deleteProject(@PathVariable String id, @AuthenticationPrincipal AuthenticatedUser user) {
+        if (user == null) return ResponseEntity.status(401).build();
 
         Project project = projectService.getProjectById(id).orElse(null);
         if (project == null) return ResponseEntity.notFound().build();
 
         // Allow delete only if creator matches
-        if (!project.getCreatedBy().equals(username)) {
+        if (!project.getCreatedBy().equals(user.username())) {
             return ResponseEntity.status(403).build();
         }
 
@@ -143,29 +477,39 @@ public class ProjectController {
         return ResponseEntity.noContent().build();
     }
 
+    @GetMapping("/{id}/remarks")
+    public ResponseEntity<List<Remark>> getRemarks(
+            @PathVariable String id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        RemarkPage page = remarkService.timeline(id, cursor, size);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
+    }
+
     @PostMapping("/{id}/remarks")
     public ResponseEntity<Project> addRemark(
             @PathVariable String id,
             @RequestBody AddRemarkRequest req,
-            @RequestHeader("Authorization") String authHeader
+            @AuthenticationPrincipal AuthenticatedUser user
     ) {
-        String token = authHeader.substring(7);
-        if (!jwtUtil.isAdmin(token)) return ResponseEntity.status(403).build();
-
-        Project p = projectService.getProjectById(id).orElse(null);
-        if (p == null) return ResponseEntity.notFound().build();
+        if (user == null) return ResponseEntity.status(401).build();
+        if (!user.isAdmin()) return ResponseEntity.status(403).build();
 
         Remark r = Remark.builder()
                 .text(req.getText())
-                .author("admin")
+                .author(user.username())
                 .createdAt(Instant.now())
                 .build();
 
-        p.getRemarks().add(r);
-        Project saved = projectService.save(p);
+        Project saved = projectService.addRemark(id, r).orElse(null);
+        if (saved == null) return ResponseEntity.notFound().build();
 
-        if (p.getEmail() != null && !p.getEmail().isEmpty()) {
-            emailService.sendRemarkNotification(p.getEmail(), p.getTitle(), req.getText());
+        if (saved.getEmail() != null && !saved.getEmail().isEmpty()) {
+            emailOutboxService.enqueueRemark(saved, req.getText());
         }
 
         return ResponseEntity.ok(saved);
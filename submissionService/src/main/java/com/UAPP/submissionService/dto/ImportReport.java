@@ -0,0 +1,27 @@
+package com.UAPP.submissionService.dto;
+
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportReport {
+    private int total;
+    private int imported;
+    private int failed;
+    private long durationMillis;
+    private List<RowResult> rows = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowResult {
+        private int row;
+        private boolean imported;
+        private String projectId;
+        private String error;
+    }
+}
@@ -0,0 +1,15 @@
+package com.UAPP.submissionService.dto;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PdfStorageStats {
+    private long blobs;
+    private long references;
+    private long storedBytes;
+    private long referencedBytes;
+    private long savedBytes;
+}
@@ -0,0 +1,24 @@
+package com.UAPP.submissionService.dto;
+
+import lombok.*;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * Optional server-side filters for project listings, bound from query parameters.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectFilter {
+    private String guideName;
+    private String coGuideName;
+    private String createdBy;
+    private String student;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate submissionFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate submissionTo;
+}
@@ -0,0 +1,14 @@
+package com.UAPP.submissionService.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.*;
+
+/** One manifest or NDJSON line of a bulk import; {@code pdf} names a ZIP entry. */
+@Data
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ProjectImportRow extends ProjectRequest {
+    private String pdf;
+}
@@ -0,0 +1,13 @@
+package com.UAPP.submissionService.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectPage {
+    private List<ProjectSummary> items;
+    private String nextCursor;
+}
@@ -0,0 +1,20 @@
+package com.UAPP.submissionService.dto;
+
+import com.UAPP.submissionService.model.PreviewStatus;
+import lombok.*;
+
+/** What a reviewer needs to recognise a project without opening its PDF. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectPreview {
+    private String projectId;
+    private String filename;
+    private long size;
+    /** Null while the preview is still being extracted. */
+    private PreviewStatus status;
+    private Integer pageCount;
+    private String snippet;
+    private boolean thumbnail;
+}
@@ -0,0 +1,35 @@
+package com.UAPP.submissionService.dto;
+
+import java.util.Arrays;
+
+public enum ProjectSort {
+    CREATED("created", "_id"),
+    SUBMISSION_DATE("finalSubmissionDate", "finalSubmissionDate"),
+    TITLE("title", "title");
+
+    private final String param;
+    private final String field;
+
+    ProjectSort(String param, String field) {
+        this.param = param;
+        this.field = field;
+    }
+
+    public String getParam() {
+        return param;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public static ProjectSort fromParam(String value) {
+        if (value == null || value.isBlank()) {
+            return CREATED;
+        }
+        return Arrays.stream(values())
+                .filter(s -> s.param.equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown sort: " + value));
+    }
+}
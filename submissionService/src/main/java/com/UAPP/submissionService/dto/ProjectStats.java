@@ -0,0 +1,38 @@
+package com.UAPP.submissionService.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Dashboard numbers. The summary form carries only the totals (served from
+ * the counters document); the full form adds per-guide and per-month
+ * breakdowns computed by aggregation.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ProjectStats {
+    private long total;
+    private long withPdf;
+    private long withoutPdf;
+    private long remarked;
+    private long unremarked;
+    private long remarks;
+    private List<Bucket> byGuide;
+    private List<Bucket> bySubmissionMonth;
+    // When the totals were last recomputed from the collection; null for aggregated stats
+    private Instant reconciledAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Bucket {
+        private String key;
+        private long count;
+    }
+}
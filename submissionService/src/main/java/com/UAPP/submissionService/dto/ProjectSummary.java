@@ -0,0 +1,33 @@
+package com.UAPP.submissionService.dto;
+
+import lombok.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * List view of a project. Read through a Mongo projection so list endpoints
+ * never load remark bodies or PDF data.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectSummary {
+    private String id;
+    private String title;
+    private String description;
+    private List<String> students;
+    private String guideName;
+    private String coGuideName;
+    private String createdBy;
+    private LocalDate startDate;
+    private LocalDate finalSubmissionDate;
+    private int remarkCount;
+    private Instant lastRemarkAt;
+    private boolean hasPdf;
+    private Long pdfSize;
+    private Integer pageCount;
+    private String snippet;
+}
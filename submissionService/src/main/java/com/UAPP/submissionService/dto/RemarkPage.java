@@ -0,0 +1,14 @@
+package com.UAPP.submissionService.dto;
+
+import com.UAPP.submissionService.model.Remark;
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RemarkPage {
+    private List<Remark> items;
+    private String nextCursor;
+}
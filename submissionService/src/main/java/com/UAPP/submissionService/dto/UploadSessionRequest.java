@@ -0,0 +1,11 @@
+package com.UAPP.submissionService.dto;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadSessionRequest {
+    private String filename;
+    private long size;
+}
@@ -0,0 +1,91 @@
+package com.UAPP.submissionService.migration;
+
+import com.UAPP.submissionService.model.PdfBlob;
+import com.UAPP.submissionService.model.Project;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.gridfs.GridFsTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Brings PDFs stored before deduplication under {@code pdf_blobs}. Projects
+ * sharing a hash are pointed at one GridFS file, the redundant copies are
+ * deleted and a blob with the matching reference count is recorded. Hashes
+ * that already have a blob are left alone, so reruns are no-ops.
+ */
+@Component
+@Order(4)
+@RequiredArgsConstructor
+@Slf4j
+public class PdfBlobMigration implements ApplicationRunner {
+
+    private final MongoTemplate mongoTemplate;
+    private final GridFsTemplate gridFsTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Aggregation byHash = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("summaryPdf.sha256").ne(null)),
+                Aggregation.group("summaryPdf.sha256")
+                        .addToSet("summaryPdf.fileId").as("fileIds")
+                        .count().as("references")
+                        .first("summaryPdf.size").as("size"),
+                Aggregation.lookup("pdf_blobs", "_id", "_id", "blob"),
+                Aggregation.match(Criteria.where("blob").size(0))
+        ).withOptions(Aggregation.newAggregationOptions().allowDiskUse(true).build());
+
+        int blobs = 0;
+        int removedCopies = 0;
+        try (var groups = mongoTemplate.aggregateStream(byHash, Project.class, Document.class)) {
+            for (Document group : (Iterable<Document>) groups::iterator) {
+                removedCopies += migrate(group);
+                blobs++;
+            }
+        }
+
+        if (blobs > 0) {
+            log.info("Recorded {} PDF blobs and removed {} duplicate copies", blobs, removedCopies);
+        }
+    }
+
+    private int migrate(Document group) {
+        String sha = group.getString("_id");
+        List<String> fileIds = group.getList("fileIds", String.class);
+        String canonical = fileIds.get(0);
+
+        if (fileIds.size() > 1) {
+            mongoTemplate.updateMulti(
+                    Query.query(Criteria.where("summaryPdf.sha256").is(sha).and("summaryPdf.fileId").ne(canonical)),
+                    new Update().set("summaryPdf.fileId", canonical).inc("version", 1),
+                    Project.class);
+            for (String duplicate : fileIds.subList(1, fileIds.size())) {
+                if (ObjectId.isValid(duplicate)) {
+                    gridFsTemplate.delete(Query.query(Criteria.where("_id").is(new ObjectId(duplicate))));
+                }
+            }
+        }
+
+        Number size = group.get("size", Number.class);
+        mongoTemplate.insert(PdfBlob.builder()
+                .sha256(sha)
+                .fileId(canonical)
+                .size(size == null ? 0 : size.longValue())
+                .refCount(group.get("references", Number.class).longValue())
+                .createdAt(Instant.now())
+                .build());
+        return fileIds.size() - 1;
+    }
+}
@@ -0,0 +1,80 @@
+package com.UAPP.submissionService.migration;
+
+import com.UAPP.submissionService.model.Project;
+import com.UAPP.submissionService.service.PdfSource;
+import com.UAPP.submissionService.service.PdfStorageService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.Binary;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Moves PDFs that are still embedded as {@code projectSummaryPdf} binaries
+ * into GridFS. Runs on startup, one project at a time, and is a no-op once
+ * every document has been migrated.
+ */
+@Component
+@Order(1)
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "app.migrations.pdf-gridfs.enabled", havingValue = "true", matchIfMissing = true)
+public class ProjectPdfGridFsMigration implements ApplicationRunner {
+
+    static final String LEGACY_FIELD = "projectSummaryPdf";
+    private static final String COLLECTION = "projects";
+
+    private final MongoTemplate mongoTemplate;
+    private final PdfStorageService pdfStorageService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Query legacy = Query.query(Criteria.where(LEGACY_FIELD).exists(true));
+        legacy.fields().include("_id").include(LEGACY_FIELD);
+        legacy.cursorBatchSize(1);
+
+        int[] migrated = {0};
+        try (var stream = mongoTemplate.stream(legacy, Document.class, COLLECTION)) {
+            stream.forEach(doc -> {
+                migrate(doc);
+                migrated[0]++;
+            });
+        }
+
+        if (migrated[0] > 0) {
+            log.info("Moved {} embedded project PDFs into GridFS", migrated[0]);
+        }
+    }
+
+    private void migrate(Document doc) {
+        Object id = doc.get("_id");
+        Update update = new Update().unset(LEGACY_FIELD).inc("version", 1);
+
+        byte[] bytes = switch (doc.get(LEGACY_FIELD)) {
+            case Binary binary -> binary.getData();
+            case byte[] raw -> raw;
+            case null, default -> null;
+        };
+        if (bytes != null && bytes.length > 0) {
+            try {
+                update.set("summaryPdf", pdfStorageService.store(PdfSource.of(bytes), null));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        Query query = Query.query(Criteria.where("_id").is(id).and(LEGACY_FIELD).exists(true));
+        mongoTemplate.updateFirst(query, update, Project.class);
+    }
+}
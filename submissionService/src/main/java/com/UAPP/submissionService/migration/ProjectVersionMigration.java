@@ -0,0 +1,38 @@
+package com.UAPP.submissionService.migration;
+
+import com.UAPP.submissionService.model.Project;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+/**
+ * Gives projects written before {@code @Version} was introduced an initial
+ * version. Without it Spring Data would treat them as new and insert
+ * instead of replacing on save.
+ */
+@Component
+@Order(2)
+@RequiredArgsConstructor
+@Slf4j
+public class ProjectVersionMigration implements ApplicationRunner {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long updated = mongoTemplate.updateMulti(
+                Query.query(Criteria.where("version").exists(false)),
+                new Update().set("version", 0L),
+                Project.class).getModifiedCount();
+        if (updated > 0) {
+            log.info("Initialised version on {} projects", updated);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.UAPP.submissionService.migration;
+
+import com.UAPP.submissionService.model.Project;
+import com.UAPP.submissionService.model.Remark;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Moves remarks embedded in project documents into the remarks collection.
+ * Migrated remarks get ids derived from (projectId, position), so a run that
+ * is interrupted can simply be repeated without creating duplicates.
+ */
+@Component
+@Order(3)
+@RequiredArgsConstructor
+@Slf4j
+public class RemarkCollectionMigration implements ApplicationRunner {
+
+    private static final String LEGACY_FIELD = "remarks";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Query legacy = Query.query(Criteria.where(LEGACY_FIELD).exists(true));
+        legacy.fields().include("_id").include(LEGACY_FIELD);
+
+        int[] migrated = {0};
+        try (var stream = mongoTemplate.stream(legacy, Document.class, "projects")) {
+            stream.forEach(doc -> {
+                migrate(doc);
+                migrated[0]++;
+            });
+        }
+        if (migrated[0] > 0) {
+            log.info("Moved embedded remarks of {} projects into the remarks collection", migrated[0]);
+        }
+    }
+
+    private void migrate(Document doc) {
+        String projectId = doc.get("_id").toString();
+        List<?> embedded = doc.getList(LEGACY_FIELD, Object.class, List.of());
+
+        for (int i = 0; i < embedded.size(); i++) {
+            if (!(embedded.get(i) instanceof Document remark)) continue;
+            Date createdAt = remark.getDate("createdAt");
+            mongoTemplate.save(Remark.builder()
+                    .id(legacyId(projectId, i))
+                    .projectId(projectId)
+                    .text(remark.getString("text"))
+                    .author(remark.getString("author"))
+                    .createdAt(createdAt != null ? createdAt.toInstant() : Instant.EPOCH)
+                    .build());
+        }
+
+        Query timeline = Query.query(Criteria.where("projectId").is(projectId));
+        long count = mongoTemplate.count(timeline, Remark.class);
+        Remark latest = mongoTemplate.findOne(
+                Query.of(timeline).with(Sort.by(Sort.Direction.DESC, "createdAt")).limit(1), Remark.class);
+
+        Update update = new Update().unset(LEGACY_FIELD).set("remarkCount", count);
+        if (latest != null) {
+            update.max("lastRemarkAt", latest.getCreatedAt());
+        }
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(doc.get("_id")).and(LEGACY_FIELD).exists(true)),
+                update.inc("version", 1),
+                Project.class);
+    }
+
+    private static String legacyId(String projectId, int position) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest((projectId + ":" + position).getBytes(StandardCharsets.UTF_8));
+            return new ObjectId(Arrays.copyOf(hash, 12)).toHexString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
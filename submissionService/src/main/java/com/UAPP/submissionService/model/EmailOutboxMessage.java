@@ -0,0 +1,41 @@
+package com.UAPP.submissionService.model;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * A notification waiting to be mailed. Written in the same flow as the change
+ * that triggers it and delivered later by {@code EmailOutboxDispatcher}.
+ * Messages without a {@link #type} predate reminders and are remarks.
+ */
+@Document(collection = "email_outbox")
+@CompoundIndex(name = "due", def = "{'status': 1, 'nextAttemptAt': 1}")
+@CompoundIndex(name = "lease", def = "{'status': 1, 'lockedUntil': 1}")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmailOutboxMessage {
+    @Id
+    private String id;
+    private OutboxMessageType type;
+    private String recipient;
+    private String projectId;
+    private String projectTitle;
+    private String text;
+    private OutboxStatus status;
+    private int attempts;
+    private Instant createdAt;
+    private Instant nextAttemptAt;
+    private Instant lockedUntil;
+    private Instant sentAt;
+    private String lastError;
+
+    public OutboxMessageType effectiveType() {
+        return type == null ? OutboxMessageType.REMARK : type;
+    }
+}
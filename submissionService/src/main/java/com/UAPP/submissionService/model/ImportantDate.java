@@ -2,6 +2,7 @@ package com.UAPP.submissionService.model;
 
 import lombok.*;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.Instant;
@@ -16,5 +17,7 @@ public class ImportantDate {
     private String id;
     private String title;
     private String description;
+    // Serves the upcoming-dates range scan and prunes entries once the retention period has passed
+    @Indexed(name = "date_ttl", expireAfter = "#{@environment.getProperty('app.important-dates.retention', 'P30D')}")
     private Instant date;
 }
\ No newline at end of file
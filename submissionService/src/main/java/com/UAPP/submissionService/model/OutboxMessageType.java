@@ -0,0 +1,6 @@
+package com.UAPP.submissionService.model;
+
+public enum OutboxMessageType {
+    REMARK,
+    DEADLINE_REMINDER
+}
@@ -0,0 +1,8 @@
+package com.UAPP.submissionService.model;
+
+public enum OutboxStatus {
+    PENDING,
+    SENDING,
+    SENT,
+    FAILED
+}
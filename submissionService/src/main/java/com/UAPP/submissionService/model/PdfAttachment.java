@@ -0,0 +1,27 @@
+package com.UAPP.submissionService.model;
+
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Reference to a project summary PDF stored in GridFS. Only this small
+ * descriptor lives inside the project document, the bytes stay in fs.chunks.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PdfAttachment {
+    private String fileId;
+    private String filename;
+    private String contentType;
+    private long size;
+    private String sha256;
+    private Instant uploadedAt;
+
+    // Filled in by the preview pipeline; null until extraction has run
+    private PreviewStatus previewStatus;
+    private Integer pageCount;
+    private String snippet;
+}
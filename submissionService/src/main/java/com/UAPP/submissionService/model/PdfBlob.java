@@ -0,0 +1,26 @@
+package com.UAPP.submissionService.model;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * One stored copy of a PDF, keyed by the SHA-256 of its bytes. Every
+ * {@link PdfAttachment} with the same hash points at {@link #fileId}; the
+ * GridFS file is deleted when the last reference is released.
+ */
+@Document(collection = "pdf_blobs")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PdfBlob {
+    @Id
+    private String sha256;
+    private String fileId;
+    private long size;
+    private long refCount;
+    private Instant createdAt;
+}
@@ -0,0 +1,27 @@
+package com.UAPP.submissionService.model;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * Extracted preview of a stored PDF, keyed like {@link PdfBlob} by the SHA-256
+ * of its bytes so identical uploads share one entry.
+ */
+@Document(collection = "pdf_previews")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PdfPreview {
+    @Id
+    private String sha256;
+    private PreviewStatus status;
+    private int pageCount;
+    private String snippet;
+    private byte[] thumbnail;
+    private String error;
+    private Instant createdAt;
+}
@@ -1,15 +1,27 @@
 package com.UAPP.submissionService.model;
 
 import lombok.*;
-import org.bson.types.Binary;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.TextIndexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+import java.time.Instant;
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.List;
 
+// Each filter/sort used by the listing endpoints ends in _id so keyset pages are index-ordered
 @Document(collection = "projects")
+@CompoundIndex(name = "owner_created", def = "{'createdBy': 1, '_id': 1}")
+@CompoundIndex(name = "title_created", def = "{'title': 1, '_id': 1}")
+@CompoundIndex(name = "guide_created", def = "{'guideName': 1, '_id': 1}")
+@CompoundIndex(name = "coguide_created", def = "{'coGuideName': 1, '_id': 1}")
+@CompoundIndex(name = "student_created", def = "{'students': 1, '_id': 1}")
+@CompoundIndex(name = "submission_date", def = "{'finalSubmissionDate': 1, '_id': 1}")
+// Covers the deadline reminder lookup of team leads with a submission still ahead
+@CompoundIndex(name = "submission_email", def = "{'finalSubmissionDate': 1, 'email': 1}")
+@CompoundIndex(name = "pdf_preview_status", def = "{'summaryPdf.previewStatus': 1}")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -19,18 +31,29 @@ public class Project {
     @Id
     private String id;
 
+    // Weighted text index behind /api/projects/search
+    @TextIndexed(weight = 10)
     private String title;
+    @TextIndexed
     private String description;
+    @TextIndexed(weight = 5)
     private List<String> students;
+    @TextIndexed(weight = 3)
     private String guideName;
+    @TextIndexed(weight = 3)
     private String coGuideName;
     private String email;
     private String url;
     private LocalDate startDate;
     private LocalDate finalSubmissionDate;
     private String githubRepo;
-    private Binary projectSummaryPdf;
+    private PdfAttachment summaryPdf;
     private String createdBy;
 
-    private List<Remark> remarks = new ArrayList<>();
+    // Remarks live in their own collection; the project keeps a denormalised summary
+    private int remarkCount;
+    private Instant lastRemarkAt;
+
+    @Version
+    private Long version;
 }
\ No newline at end of file
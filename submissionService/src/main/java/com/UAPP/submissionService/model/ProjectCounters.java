@@ -0,0 +1,29 @@
+package com.UAPP.submissionService.model;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * Running totals for the admin dashboard, kept in a single document and
+ * adjusted with {@code $inc} by every project and remark write. Periodically
+ * overwritten from an aggregation so any drift is corrected.
+ */
+@Document(collection = "project_counters")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectCounters {
+    public static final String GLOBAL = "global";
+
+    @Id
+    private String id;
+    private long projects;
+    private long withPdf;
+    private long remarkedProjects;
+    private long remarks;
+    private Instant reconciledAt;
+}
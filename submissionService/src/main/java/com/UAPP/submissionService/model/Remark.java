@@ -2,16 +2,24 @@ package com.UAPP.submissionService.model;
 
 import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.Instant;
 
+@Document(collection = "remarks")
+@CompoundIndex(name = "project_timeline", def = "{'projectId': 1, 'createdAt': -1, '_id': -1}")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Remark {
+    @Id
+    private String id;
+    private String projectId;
     private String text;
     private String author;
     @CreatedDate
     private Instant createdAt;
-}
\ No newline at end of file
+}
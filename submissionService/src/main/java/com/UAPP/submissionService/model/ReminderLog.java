@@ -0,0 +1,37 @@
+package com.UAPP.submissionService.model;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * One deadline reminder that has been handed to the outbox. The id is the
+ * reminder key (recipient, deadline and lead time), so inserting it is the
+ * claim: a second run, another instance or a restart fails on the duplicate
+ * key instead of mailing the same reminder again.
+ */
+@Document(collection = "reminder_log")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReminderLog {
+    @Id
+    private String key;
+    private String recipient;
+    private ReminderKind kind;
+    private String targetId;
+    private String stage;
+    private Instant sentAt;
+    // Kept until the deadline is well past; after that no reminder for it can be due again
+    @Indexed(name = "due_ttl", expireAfter = "P30D")
+    private Instant due;
+
+    public enum ReminderKind {
+        PROJECT_SUBMISSION,
+        IMPORTANT_DATE
+    }
+}
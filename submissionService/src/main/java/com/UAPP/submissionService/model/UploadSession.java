@@ -0,0 +1,32 @@
+package com.UAPP.submissionService.model;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * A resumable summary PDF upload in progress. The bytes received so far sit
+ * in a temporary file on the node that created the session; {@link #received}
+ * is the offset the next chunk must start at.
+ */
+@Document(collection = "upload_sessions")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UploadSession {
+    @Id
+    private String id;
+    private String projectId;
+    private String owner;
+    private String filename;
+    private long size;
+    private long received;
+    private Instant createdAt;
+    // Pushed forward by every chunk; the sweeper removes sessions (and their files) once it passes
+    @Indexed(name = "expires")
+    private Instant expiresAt;
+}
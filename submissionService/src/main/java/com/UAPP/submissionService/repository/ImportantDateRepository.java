@@ -8,5 +8,5 @@ import java.time.Instant;
 import java.util.List;
 
 public interface ImportantDateRepository extends MongoRepository<ImportantDate, String> {
-    List<ImportantDate> findByDateAfter(Instant now); // upcoming only
+    List<ImportantDate> findByDateAfterOrderByDateAsc(Instant now); // upcoming only, soonest first
 }
\ No newline at end of file
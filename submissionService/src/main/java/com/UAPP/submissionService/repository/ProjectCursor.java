@@ -0,0 +1,58 @@
+package com.UAPP.submissionService.repository;
+
+import com.UAPP.submissionService.dto.ProjectSort;
+import com.UAPP.submissionService.dto.ProjectSummary;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque continuation token for keyset pagination: the sort key, direction
+ * and the (value, id) pair of the last row that was returned.
+ */
+public record ProjectCursor(ProjectSort sort, Sort.Direction direction, String lastId, Object lastValue) {
+
+    private static final String NULL_MARKER = "~";
+
+    public static ProjectCursor after(ProjectSummary last, ProjectSort sort, Sort.Direction direction) {
+        Object value = switch (sort) {
+            case CREATED -> null;
+            case SUBMISSION_DATE -> last.getFinalSubmissionDate();
+            case TITLE -> last.getTitle();
+        };
+        return new ProjectCursor(sort, direction, last.getId(), value);
+    }
+
+    public String encode() {
+        String value = lastValue == null ? NULL_MARKER : "=" + lastValue;
+        String raw = String.join("|", sort.getParam(), direction.name(), lastId, value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ProjectCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 4);
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            ProjectSort sort = ProjectSort.fromParam(parts[0]);
+            Sort.Direction direction = Sort.Direction.valueOf(parts[1]);
+            Object value = parts[3].equals(NULL_MARKER) ? null : parseValue(sort, parts[3].substring(1));
+            return new ProjectCursor(sort, direction, parts[2], value);
+        } catch (DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Malformed cursor", e);
+        }
+    }
+
+    private static Object parseValue(ProjectSort sort, String value) {
+        return switch (sort) {
+            case CREATED -> null;
+            case SUBMISSION_DATE -> LocalDate.parse(value);
+            case TITLE -> value;
+        };
+    }
+}
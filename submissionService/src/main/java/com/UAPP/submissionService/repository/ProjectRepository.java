@@ -2,14 +2,24 @@ package com.UAPP.submissionService.repository;
 
 import com.UAPP.submissionService.model.Project;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 
 import java.util.List;
 import java.util.Optional;
 
-public interface ProjectRepository extends MongoRepository<Project, String> {
+public interface ProjectRepository extends MongoRepository<Project, String>, ProjectRepositoryCustom {
     Optional<Project> findById(String id);
     List<Project> findByCreatedBy(String username);
     Optional<Project> findByTitle(String title);
 
+    @Query(value = "{ '_id': ?0 }", fields = "{ 'summaryPdf': 1 }")
+    Optional<Project> findSummaryPdfById(String id);
+
+    @Query(value = "{ '_id': ?0 }", fields = "{ 'createdBy': 1 }")
+    Optional<Project> findOwnerById(String id);
+
+    @Query(value = "{ '_id': ?0 }", fields = "{ 'version': 1 }")
+    Optional<Project> findVersionById(String id);
+
 
 }
@@ -0,0 +1,38 @@
+package com.UAPP.submissionService.repository;
+
+import com.UAPP.submissionService.dto.ProjectFilter;
+import com.UAPP.submissionService.dto.ProjectPage;
+import com.UAPP.submissionService.dto.ProjectSort;
+import com.UAPP.submissionService.dto.ProjectStats;
+import com.UAPP.submissionService.model.Project;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.util.stream.Stream;
+
+public interface ProjectRepositoryCustom {
+    ProjectPage findSummaryPage(ProjectFilter filter, ProjectSort sort, Sort.Direction direction,
+                                ProjectCursor after, int size);
+
+    /** Text search ranked by relevance; {@code offset} is the number of results already returned. */
+    ProjectPage search(String text, ProjectFilter filter, int offset, int size);
+
+    /** Projects matching {@code filter} in creation order, read lazily from a cursor. Close the stream. */
+    Stream<Project> streamForExport(ProjectFilter filter);
+
+    /** Applies {@code update} in place, bumps the version and returns the new document, or null if missing. */
+    Project updateFields(String id, Update update);
+
+    /** Like {@link #updateFields} but returns the previous state, with only {@code fields} loaded. */
+    Project updateFieldsReturningPrevious(String id, Update update, String... fields);
+
+    /** Deletes the project and returns it, or null if it was already gone; exactly one caller gets the document. */
+    Project removeById(String id);
+
+    /** Bumps the denormalised remark count and last-remark timestamp. */
+    Project recordRemark(String id, Instant createdAt);
+
+    /** Totals plus per-guide and per-submission-month counts, in one pass over the collection. */
+    ProjectStats aggregateStats();
+}
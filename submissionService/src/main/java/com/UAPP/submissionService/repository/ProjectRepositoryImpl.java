@@ -0,0 +1,263 @@
+package com.UAPP.submissionService.repository;
+
+import com.UAPP.submissionService.dto.ProjectFilter;
+import com.UAPP.submissionService.dto.ProjectPage;
+import com.UAPP.submissionService.dto.ProjectSort;
+import com.UAPP.submissionService.dto.ProjectStats;
+import com.UAPP.submissionService.dto.ProjectSummary;
+import com.UAPP.submissionService.model.Project;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationExpression;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.ComparisonOperators;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.aggregation.DateOperators;
+import org.springframework.data.mongodb.core.aggregation.ProjectionOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class ProjectRepositoryImpl implements ProjectRepositoryCustom {
+
+    private static final int EXPORT_BATCH_SIZE = 500;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public ProjectPage findSummaryPage(ProjectFilter filter, ProjectSort sort, Sort.Direction direction,
+                                       ProjectCursor after, int size) {
+        List<Criteria> clauses = new ArrayList<>(filterClauses(filter));
+        if (after != null) {
+            clauses.add(keyset(sort, direction, after));
+        }
+        Criteria criteria = clauses.isEmpty() ? new Criteria() : new Criteria().andOperator(clauses);
+
+        Sort order = sort == ProjectSort.CREATED
+                ? Sort.by(direction, "_id")
+                : Sort.by(direction, sort.getField()).and(Sort.by(direction, "_id"));
+
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(criteria),
+                Aggregation.sort(order),
+                Aggregation.limit(size + 1L),
+                summaryProjection()
+        );
+        List<ProjectSummary> rows = new ArrayList<>(
+                mongoTemplate.aggregate(aggregation, Project.class, ProjectSummary.class).getMappedResults());
+
+        String next = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            next = ProjectCursor.after(rows.get(size - 1), sort, direction).encode();
+        }
+        return new ProjectPage(rows, next);
+    }
+
+    @Override
+    public ProjectPage search(String text, ProjectFilter filter, int offset, int size) {
+        List<Criteria> clauses = filterClauses(filter);
+        AggregationExpression textScore = context -> new Document("$meta", "textScore");
+
+        List<AggregationOperation> stages = new ArrayList<>();
+        stages.add(Aggregation.match(TextCriteria.forDefaultLanguage().matching(text)));
+        if (!clauses.isEmpty()) {
+            stages.add(Aggregation.match(new Criteria().andOperator(clauses)));
+        }
+        stages.add(Aggregation.addFields().addField("score").withValue(textScore).build());
+        stages.add(Aggregation.sort(Sort.by(Sort.Order.desc("score"), Sort.Order.asc("_id"))));
+        stages.add(Aggregation.skip((long) offset));
+        stages.add(Aggregation.limit(size + 1L));
+        stages.add(summaryProjection());
+
+        List<ProjectSummary> rows = new ArrayList<>(mongoTemplate.aggregate(
+                Aggregation.newAggregation(stages), Project.class, ProjectSummary.class).getMappedResults());
+
+        String next = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            next = SearchCursor.encode(offset + size);
+        }
+        return new ProjectPage(rows, next);
+    }
+
+    @Override
+    public Stream<Project> streamForExport(ProjectFilter filter) {
+        List<Criteria> clauses = filterClauses(filter);
+        Query query = clauses.isEmpty() ? new Query() : Query.query(new Criteria().andOperator(clauses));
+        query.fields().include("title", "description", "students", "guideName", "coGuideName", "email", "url",
+                "githubRepo", "startDate", "finalSubmissionDate", "createdBy", "remarkCount", "lastRemarkAt",
+                "summaryPdf.size", "summaryPdf.sha256");
+        query.with(Sort.by("_id")).cursorBatchSize(EXPORT_BATCH_SIZE);
+        return mongoTemplate.stream(query, Project.class);
+    }
+
+    @Override
+    public Project updateFields(String id, Update update) {
+        return mongoTemplate.findAndModify(byId(id), update.inc("version", 1),
+                FindAndModifyOptions.options().returnNew(true), Project.class);
+    }
+
+    @Override
+    public Project updateFieldsReturningPrevious(String id, Update update, String... fields) {
+        Query query = byId(id);
+        for (String field : fields) {
+            query.fields().include(field);
+        }
+        return mongoTemplate.findAndModify(query, update.inc("version", 1), Project.class);
+    }
+
+    @Override
+    public Project removeById(String id) {
+        return mongoTemplate.findAndRemove(byId(id), Project.class);
+    }
+
+    @Override
+    public Project recordRemark(String id, Instant createdAt) {
+        return updateFields(id, new Update().inc("remarkCount", 1).max("lastRemarkAt", createdAt));
+    }
+
+    @Override
+    public ProjectStats aggregateStats() {
+        // $ifNull folds a missing summaryPdf into "" so it compares like an absent file
+        AggregationExpression hasPdf = ComparisonOperators.valueOf(
+                ConditionalOperators.ifNull("summaryPdf.fileId").then("")).greaterThanValue("");
+        AggregationExpression remarked = ComparisonOperators.valueOf("remarkCount").greaterThanValue(0);
+
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.facet(
+                                Aggregation.group()
+                                        .count().as("total")
+                                        .sum(ConditionalOperators.when(hasPdf).then(1).otherwise(0)).as("withPdf")
+                                        .sum(ConditionalOperators.when(remarked).then(1).otherwise(0)).as("remarked")
+                                        .sum("remarkCount").as("remarks"))
+                        .as("totals")
+                        .and(
+                                Aggregation.group("guideName").count().as("count"),
+                                Aggregation.sort(Sort.by(Sort.Order.desc("count"), Sort.Order.asc("_id"))))
+                        .as("byGuide")
+                        .and(
+                                Aggregation.project().and(submissionMonth(ZoneId.systemDefault())).as("month"),
+                                Aggregation.group("month").count().as("count"),
+                                Aggregation.sort(Sort.by("_id")))
+                        .as("bySubmissionMonth"));
+
+        Document result = mongoTemplate.aggregate(aggregation, Project.class, Document.class).getUniqueMappedResult();
+        List<Document> totals = result == null ? List.of() : result.getList("totals", Document.class);
+        Document sums = totals.isEmpty() ? new Document() : totals.get(0);
+
+        long total = number(sums, "total");
+        long withPdf = number(sums, "withPdf");
+        long remarkedCount = number(sums, "remarked");
+        return ProjectStats.builder()
+                .total(total)
+                .withPdf(withPdf)
+                .withoutPdf(total - withPdf)
+                .remarked(remarkedCount)
+                .unremarked(total - remarkedCount)
+                .remarks(number(sums, "remarks"))
+                .byGuide(buckets(result, "byGuide", "unassigned"))
+                .bySubmissionMonth(buckets(result, "bySubmissionMonth", "unscheduled"))
+                .build();
+    }
+
+    /**
+     * Spring Data writes a LocalDate as midnight in the JVM's zone, so the month
+     * has to be read in that zone too; in UTC a zone east of it would file the 1st
+     * under the previous month.
+     */
+    static AggregationExpression submissionMonth(ZoneId zone) {
+        return DateOperators.dateOf("finalSubmissionDate")
+                .withTimezone(DateOperators.Timezone.valueOf(zone.getId()))
+                .toString("%Y-%m");
+    }
+
+    private static List<ProjectStats.Bucket> buckets(Document result, String facet, String missingKey) {
+        List<ProjectStats.Bucket> buckets = new ArrayList<>();
+        if (result != null) {
+            for (Document row : result.getList(facet, Document.class)) {
+                Object key = row.get("_id");
+                buckets.add(new ProjectStats.Bucket(key == null ? missingKey : key.toString(), number(row, "count")));
+            }
+        }
+        return buckets;
+    }
+
+    private static long number(Document document, String key) {
+        Object value = document.get(key);
+        return value instanceof Number n ? n.longValue() : 0L;
+    }
+
+    private static Query byId(String id) {
+        return Query.query(Criteria.where("_id").is(id));
+    }
+
+    static List<Criteria> filterClauses(ProjectFilter filter) {
+        List<Criteria> clauses = new ArrayList<>();
+        if (filter == null) {
+            return clauses;
+        }
+        if (hasText(filter.getGuideName())) clauses.add(Criteria.where("guideName").is(filter.getGuideName()));
+        if (hasText(filter.getCoGuideName())) clauses.add(Criteria.where("coGuideName").is(filter.getCoGuideName()));
+        if (hasText(filter.getCreatedBy())) clauses.add(Criteria.where("createdBy").is(filter.getCreatedBy()));
+        if (hasText(filter.getStudent())) clauses.add(Criteria.where("students").is(filter.getStudent()));
+        if (filter.getSubmissionFrom() != null || filter.getSubmissionTo() != null) {
+            Criteria range = Criteria.where("finalSubmissionDate");
+            if (filter.getSubmissionFrom() != null) range.gte(filter.getSubmissionFrom());
+            if (filter.getSubmissionTo() != null) range.lte(filter.getSubmissionTo());
+            clauses.add(range);
+        }
+        return clauses;
+    }
+
+    // Rows strictly after the cursor in (field, _id) order. Mongo sorts null/missing
+    // values first when ascending and last when descending.
+    private static Criteria keyset(ProjectSort sort, Sort.Direction direction, ProjectCursor after) {
+        boolean asc = direction.isAscending();
+        Object id = ObjectId.isValid(after.lastId()) ? new ObjectId(after.lastId()) : after.lastId();
+        Criteria idAfter = asc ? Criteria.where("_id").gt(id) : Criteria.where("_id").lt(id);
+
+        if (sort == ProjectSort.CREATED) {
+            return idAfter;
+        }
+
+        String field = sort.getField();
+        Object value = after.lastValue();
+        if (value == null) {
+            Criteria tie = new Criteria().andOperator(Criteria.where(field).is(null), idAfter);
+            return asc ? new Criteria().orOperator(tie, Criteria.where(field).ne(null)) : tie;
+        }
+
+        Criteria beyond = asc ? Criteria.where(field).gt(value) : Criteria.where(field).lt(value);
+        Criteria tie = new Criteria().andOperator(Criteria.where(field).is(value), idAfter);
+        return asc
+                ? new Criteria().orOperator(beyond, tie)
+                : new Criteria().orOperator(beyond, tie, Criteria.where(field).is(null));
+    }
+
+    static ProjectionOperation summaryProjection() {
+        return Aggregation.project("title", "description", "students", "guideName", "coGuideName",
+                        "createdBy", "startDate", "finalSubmissionDate", "remarkCount", "lastRemarkAt")
+                .and(ComparisonOperators.Gt.valueOf("summaryPdf.size").greaterThanValue(0)).as("hasPdf")
+                .and("summaryPdf.size").as("pdfSize")
+                .and("summaryPdf.pageCount").as("pageCount")
+                .and("summaryPdf.snippet").as("snippet");
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
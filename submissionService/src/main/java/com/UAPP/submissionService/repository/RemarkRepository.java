@@ -0,0 +1,8 @@
+package com.UAPP.submissionService.repository;
+
+import com.UAPP.submissionService.model.Remark;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface RemarkRepository extends MongoRepository<Remark, String> {
+    void deleteByProjectId(String projectId);
+}
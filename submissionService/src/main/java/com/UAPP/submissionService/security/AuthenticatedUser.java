@@ -0,0 +1,12 @@
+package com.UAPP.submissionService.security;
+
+/**
+ * Caller identity taken from a verified auth-service token. Controllers
+ * receive it through {@code @AuthenticationPrincipal}.
+ */
+public record AuthenticatedUser(String username, String role) {
+
+    public boolean isAdmin() {
+        return "ADMIN".equalsIgnoreCase(role);
+    }
+}
@@ -0,0 +1,238 @@
+package com.UAPP.submissionService.service;
+
+import com.UAPP.submissionService.model.ImportantDate;
+import com.UAPP.submissionService.model.Project;
+import com.UAPP.submissionService.model.ReminderLog;
+import com.UAPP.submissionService.model.ReminderLog.ReminderKind;
+import com.mongodb.bulk.BulkWriteError;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Reminds team leads of upcoming final submission dates and important dates.
+ * Each run range-scans both collections on their date indexes up to the
+ * longest lead time, groups what is due per recipient and queues one
+ * reminder mail per recipient in the email outbox.
+ *
+ * A deadline is reminded once per lead time (e.g. a week and a day before).
+ * Every reminder is first claimed in {@code reminder_log} under a unique
+ * key, so a rerun, a second instance or a restart skips what was already
+ * queued; claims whose outbox insert fails are removed again. Recipients are processed in batches whose outbox messages become
+ * due one {@code batch-spacing} apart, so a run over thousands of teams
+ * trickles into the dispatcher instead of crowding out remark mails.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "app.reminders.enabled", havingValue = "true", matchIfMissing = true)
+public class DeadlineReminderService {
+
+    private static final DateTimeFormatter DAY = DateTimeFormatter.ofPattern("EEE d MMM yyyy", Locale.ENGLISH);
+    private static final DateTimeFormatter DAY_TIME = DateTimeFormatter.ofPattern("EEE d MMM yyyy, HH:mm z", Locale.ENGLISH);
+
+    private final MongoTemplate mongoTemplate;
+    private final EmailOutboxService outboxService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.reminders.lead-times:P7D,P1D}")
+    private List<Duration> leadTimes;
+    @Value("${app.reminders.zone:UTC}")
+    private ZoneId zone;
+    @Value("${app.reminders.batch-size:200}")
+    private int batchSize;
+    @Value("${app.reminders.batch-spacing:PT1M}")
+    private Duration batchSpacing;
+
+    record Reminder(String key, String recipient, ReminderKind kind, String targetId, Instant due, Duration stage,
+                    String line) {
+    }
+
+    @Scheduled(fixedDelayString = "${app.reminders.interval:PT1H}",
+            initialDelayString = "${app.reminders.initial-delay:PT1M}")
+    public void run() {
+        int queued = remind(Instant.now());
+        if (queued > 0) {
+            log.info("Queued {} deadline reminders", queued);
+        }
+    }
+
+    /** @return the number of reminders queued by this run */
+    int remind(Instant now) {
+        List<Map.Entry<String, List<Reminder>>> recipients = new ArrayList<>(collect(now).entrySet());
+
+        int queued = 0;
+        int batches = 0;
+        for (int from = 0; from < recipients.size(); from += batchSize) {
+            List<Reminder> batch = recipients.subList(from, Math.min(from + batchSize, recipients.size())).stream()
+                    .flatMap(e -> e.getValue().stream())
+                    .toList();
+            List<Reminder> claimed = claim(batch, now);
+            if (claimed.isEmpty()) {
+                continue;
+            }
+            Map<String, String> textByRecipient = claimed.stream().collect(Collectors.groupingBy(
+                    Reminder::recipient, LinkedHashMap::new, Collectors.mapping(Reminder::line, Collectors.joining())));
+            try {
+                outboxService.enqueueReminders(textByRecipient, now.plus(batchSpacing.multipliedBy(batches++)));
+            } catch (RuntimeException e) {
+                // Nothing was queued for these claims; give them back so the next run picks them up again
+                release(claimed, e);
+                throw e;
+            }
+            meterRegistry.counter("reminders.queued").increment(claimed.size());
+            queued += claimed.size();
+        }
+        return queued;
+    }
+
+    /** Everything inside its reminder window, grouped per recipient and ordered by due date. */
+    Map<String, List<Reminder>> collect(Instant now) {
+        Instant horizon = now.plus(leadTimes.stream().max(Comparator.naturalOrder()).orElse(Duration.ZERO));
+        LocalDate today = LocalDate.ofInstant(now, zone);
+        Map<String, List<Reminder>> byRecipient = new LinkedHashMap<>();
+
+        Query submissions = Query.query(Criteria.where("finalSubmissionDate")
+                        .gte(today).lte(LocalDate.ofInstant(horizon, zone)))
+                .with(Sort.by("finalSubmissionDate", "_id"));
+        submissions.fields().include("title", "email", "finalSubmissionDate");
+        try (Stream<Project> projects = mongoTemplate.stream(submissions, Project.class)) {
+            projects.forEach(project -> {
+                // A submission date is due at the end of that day
+                Instant due = project.getFinalSubmissionDate().plusDays(1).atStartOfDay(zone).toInstant();
+                String line = "- Final submission for \"" + project.getTitle() + "\": "
+                        + DAY.format(project.getFinalSubmissionDate()) + "\n";
+                add(byRecipient, project.getEmail(), ReminderKind.PROJECT_SUBMISSION, project.getId(), due, now, line);
+            });
+        }
+
+        Query upcoming = Query.query(Criteria.where("date").gt(now).lte(horizon)).with(Sort.by("date"));
+        List<ImportantDate> dates = mongoTemplate.find(upcoming, ImportantDate.class);
+        if (!dates.isEmpty()) {
+            for (String recipient : activeTeamLeads(today)) {
+                for (ImportantDate date : dates) {
+                    String line = "- " + date.getTitle() + ": " + DAY_TIME.format(date.getDate().atZone(zone)) + "\n";
+                    add(byRecipient, recipient, ReminderKind.IMPORTANT_DATE, date.getId(), date.getDate(), now, line);
+                }
+            }
+        }
+        return byRecipient;
+    }
+
+    // Important dates concern every team that still has a submission ahead; covered by the submission_email index
+    private Set<String> activeTeamLeads(LocalDate today) {
+        Query active = Query.query(Criteria.where("finalSubmissionDate").gte(today));
+        active.fields().include("email").exclude("_id");
+        Set<String> leads = new LinkedHashSet<>();
+        try (Stream<Project> projects = mongoTemplate.stream(active, Project.class)) {
+            projects.map(Project::getEmail).forEach(leads::add);
+        }
+        return leads;
+    }
+
+    private void add(Map<String, List<Reminder>> byRecipient, String recipient, ReminderKind kind, String targetId,
+                     Instant due, Instant now, String line) {
+        if (recipient == null || recipient.isBlank()) {
+            return;
+        }
+        Duration stage = stage(due, now);
+        if (stage == null) {
+            return;
+        }
+        String key = String.join("|", recipient, kind.name(), targetId, due.toString(), stage.toString());
+        byRecipient.computeIfAbsent(recipient, r -> new ArrayList<>())
+                .add(new Reminder(key, recipient, kind, targetId, due, stage, line));
+    }
+
+    /** The shortest lead time the deadline is already within, or null if it is past or still too far away. */
+    Duration stage(Instant due, Instant now) {
+        Duration remaining = Duration.between(now, due);
+        if (remaining.isNegative()) {
+            return null;
+        }
+        return leadTimes.stream()
+                .filter(lead -> remaining.compareTo(lead) <= 0)
+                .min(Comparator.naturalOrder())
+                .orElse(null);
+    }
+
+    /**
+     * Records the reminders in {@code reminder_log} and returns the ones this
+     * run now owns. Keys already logged are filtered with one lookup; a
+     * duplicate key on insert means another run claimed it in between.
+     */
+    private List<Reminder> claim(List<Reminder> batch, Instant now) {
+        Query logged = Query.query(Criteria.where("_id").in(batch.stream().map(Reminder::key).toList()));
+        logged.fields().include("_id");
+        Set<String> done = mongoTemplate.find(logged, ReminderLog.class).stream()
+                .map(ReminderLog::getKey)
+                .collect(Collectors.toCollection(HashSet::new));
+        List<Reminder> fresh = batch.stream().filter(r -> !done.contains(r.key())).toList();
+        if (fresh.isEmpty()) {
+            return fresh;
+        }
+
+        List<ReminderLog> entries = fresh.stream()
+                .map(r -> ReminderLog.builder()
+                        .key(r.key())
+                        .recipient(r.recipient())
+                        .kind(r.kind())
+                        .targetId(r.targetId())
+                        .stage(r.stage().toString())
+                        .due(r.due())
+                        .sentAt(now)
+                        .build())
+                .toList();
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ReminderLog.class)
+                    .insert(entries)
+                    .execute();
+            return fresh;
+        } catch (BulkOperationException e) {
+            Set<Integer> lost = e.getErrors().stream().map(BulkWriteError::getIndex).collect(Collectors.toSet());
+            List<Reminder> claimed = new ArrayList<>();
+            for (int i = 0; i < fresh.size(); i++) {
+                if (!lost.contains(i)) {
+                    claimed.add(fresh.get(i));
+                }
+            }
+            return claimed;
+        }
+    }
+
+    private void release(List<Reminder> claimed, RuntimeException cause) {
+        try {
+            mongoTemplate.remove(Query.query(Criteria.where("_id").in(claimed.stream().map(Reminder::key).toList())),
+                    ReminderLog.class);
+        } catch (RuntimeException e) {
+            cause.addSuppressed(e);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.UAPP.submissionService.service;
+
+import com.UAPP.submissionService.model.EmailOutboxMessage;
+import com.UAPP.submissionService.model.OutboxMessageType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Drains the email outbox in the background. Each run leases a batch,
+ * folds every queued remark (and, separately, every deadline reminder) for
+ * the same recipient into one mail and sends the whole batch over a single
+ * SMTP session. Failed recipients are retried
+ * with exponential backoff.
+ *
+ * With virtual threads enabled this runs on a virtual thread. Jakarta Mail
+ * synchronizes inside its SMTP transport, so a send pins one carrier; the
+ * fixed-delay schedule keeps that to a single carrier at a time, off the
+ * request path.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "app.mail.outbox.enabled", havingValue = "true", matchIfMissing = true)
+public class EmailOutboxDispatcher {
+
+    private final EmailOutboxService outboxService;
+    private final EmailService emailService;
+
+    @Value("${app.mail.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${app.mail.outbox.poll-interval:PT5S}")
+    public void dispatch() {
+        try {
+            List<EmailOutboxMessage> batch = outboxService.claimBatch(batchSize);
+            if (!batch.isEmpty()) {
+                deliver(batch);
+            }
+        } finally {
+            outboxService.refreshBacklogStats();
+        }
+    }
+
+    void deliver(List<EmailOutboxMessage> batch) {
+        Map<MailKey, List<EmailOutboxMessage>> grouped = batch.stream()
+                .collect(Collectors.groupingBy(m -> new MailKey(m.getRecipient(), m.effectiveType()),
+                        LinkedHashMap::new, Collectors.toList()));
+
+        Map<SimpleMailMessage, List<EmailOutboxMessage>> mails = new LinkedHashMap<>();
+        grouped.forEach((key, messages) -> mails.put(compose(key, messages), messages));
+
+        Map<SimpleMailMessage, Exception> failures = emailService.sendAll(new ArrayList<>(mails.keySet()));
+
+        List<EmailOutboxMessage> sent = new ArrayList<>();
+        mails.forEach((mail, messages) -> {
+            Exception failure = failures.get(mail);
+            if (failure == null) {
+                sent.addAll(messages);
+            } else {
+                log.warn("Mail to {} failed ({} queued messages): {}", messages.get(0).getRecipient(),
+                        messages.size(), failure.getMessage());
+                outboxService.markFailed(messages, failure);
+            }
+        });
+        if (!sent.isEmpty()) {
+            outboxService.markSent(sent);
+        }
+    }
+
+    private SimpleMailMessage compose(MailKey key, List<EmailOutboxMessage> messages) {
+        return switch (key.type()) {
+            case REMARK -> emailService.remarkDigest(key.recipient(), messages);
+            case DEADLINE_REMINDER -> emailService.deadlineReminder(key.recipient(), messages);
+        };
+    }
+
+    private record MailKey(String recipient, OutboxMessageType type) {
+    }
+}
@@ -0,0 +1,166 @@
+package com.UAPP.submissionService.service;
+
+import com.UAPP.submissionService.model.EmailOutboxMessage;
+import com.UAPP.submissionService.model.OutboxMessageType;
+import com.UAPP.submissionService.model.OutboxStatus;
+import com.UAPP.submissionService.model.Project;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Durable queue of outgoing notification mails backed by the
+ * {@code email_outbox} collection.
+ */
+@Service
+@RequiredArgsConstructor
+public class EmailOutboxService implements MeterBinder {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${app.mail.outbox.lease:PT2M}")
+    private Duration lease;
+    @Value("${app.mail.outbox.initial-backoff:PT30S}")
+    private Duration initialBackoff;
+    @Value("${app.mail.outbox.max-backoff:PT30M}")
+    private Duration maxBackoff;
+    @Value("${app.mail.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    private final AtomicLong depth = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    public EmailOutboxMessage enqueueRemark(Project project, String remarkText) {
+        Instant now = Instant.now();
+        EmailOutboxMessage message = EmailOutboxMessage.builder()
+                .type(OutboxMessageType.REMARK)
+                .recipient(project.getEmail())
+                .projectId(project.getId())
+                .projectTitle(project.getTitle())
+                .text(remarkText)
+                .status(OutboxStatus.PENDING)
+                .createdAt(now)
+                .nextAttemptAt(now)
+                .build();
+        return mongoTemplate.insert(message);
+    }
+
+    /**
+     * Queues one deadline reminder per recipient in a single insert. None of
+     * them is handed to the dispatcher before {@code notBefore}, which lets
+     * the caller spread a large run over time.
+     */
+    public List<EmailOutboxMessage> enqueueReminders(Map<String, String> textByRecipient, Instant notBefore) {
+        Instant now = Instant.now();
+        List<EmailOutboxMessage> messages = new ArrayList<>(textByRecipient.size());
+        textByRecipient.forEach((recipient, text) -> messages.add(EmailOutboxMessage.builder()
+                .type(OutboxMessageType.DEADLINE_REMINDER)
+                .recipient(recipient)
+                .text(text)
+                .status(OutboxStatus.PENDING)
+                .createdAt(now)
+                .nextAttemptAt(notBefore)
+                .build()));
+        return new ArrayList<>(mongoTemplate.insertAll(messages));
+    }
+
+    /**
+     * Leases up to {@code limit} due messages, oldest first. Messages whose
+     * lease ran out (dispatcher crashed mid-send) are picked up again.
+     */
+    public List<EmailOutboxMessage> claimBatch(int limit) {
+        Instant now = Instant.now();
+        Query due = Query.query(new Criteria().orOperator(
+                        Criteria.where("status").is(OutboxStatus.PENDING).and("nextAttemptAt").lte(now),
+                        Criteria.where("status").is(OutboxStatus.SENDING).and("lockedUntil").lt(now)))
+                .with(Sort.by("createdAt"));
+        Update claim = new Update()
+                .set("status", OutboxStatus.SENDING)
+                .set("lockedUntil", now.plus(lease));
+
+        List<EmailOutboxMessage> batch = new ArrayList<>();
+        while (batch.size() < limit) {
+            EmailOutboxMessage next = mongoTemplate.findAndModify(
+                    due, claim, FindAndModifyOptions.options().returnNew(true), EmailOutboxMessage.class);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    public void markSent(List<EmailOutboxMessage> messages) {
+        mongoTemplate.updateMulti(byIds(messages),
+                new Update().set("status", OutboxStatus.SENT)
+                        .set("sentAt", Instant.now())
+                        .unset("lockedUntil")
+                        .unset("lastError"),
+                EmailOutboxMessage.class);
+    }
+
+    public void markFailed(List<EmailOutboxMessage> messages, Exception cause) {
+        Instant now = Instant.now();
+        for (EmailOutboxMessage message : messages) {
+            int attempts = message.getAttempts() + 1;
+            Update update = new Update()
+                    .set("attempts", attempts)
+                    .set("lastError", String.valueOf(cause.getMessage()))
+                    .unset("lockedUntil");
+            if (attempts >= maxAttempts) {
+                update.set("status", OutboxStatus.FAILED);
+            } else {
+                update.set("status", OutboxStatus.PENDING).set("nextAttemptAt", now.plus(backoff(attempts)));
+            }
+            mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(message.getId())), update,
+                    EmailOutboxMessage.class);
+        }
+    }
+
+    Duration backoff(int attempts) {
+        long factor = 1L << Math.min(attempts - 1, 20);
+        Duration delay = initialBackoff.multipliedBy(factor);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    /** Recomputes the queue depth and age of the oldest undelivered message. */
+    public void refreshBacklogStats() {
+        Query backlog = Query.query(Criteria.where("status").in(OutboxStatus.PENDING, OutboxStatus.SENDING));
+        depth.set(mongoTemplate.count(backlog, EmailOutboxMessage.class));
+
+        EmailOutboxMessage oldest = mongoTemplate.findOne(
+                Query.of(backlog).with(Sort.by("createdAt")).limit(1), EmailOutboxMessage.class);
+        lagSeconds.set(oldest == null ? 0 : Duration.between(oldest.getCreatedAt(), Instant.now()).toSeconds());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("mail.outbox.depth", depth, AtomicLong::get)
+                .description("Notification mails waiting to be delivered")
+                .register(registry);
+        Gauge.builder("mail.outbox.lag", lagSeconds, AtomicLong::get)
+                .description("Age of the oldest undelivered notification mail")
+                .baseUnit("seconds")
+                .register(registry);
+    }
+
+    private static Query byIds(List<EmailOutboxMessage> messages) {
+        return Query.query(Criteria.where("_id").in(messages.stream().map(EmailOutboxMessage::getId).toList()));
+    }
+}
@@ -1,16 +1,26 @@
 package com.UAPP.submissionService.service;
 
+import com.UAPP.submissionService.model.EmailOutboxMessage;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 public class EmailService {
     private final JavaMailSender mailSender;
+    private final MeterRegistry meterRegistry;
 
-    public void sendRemarkNotification(String to, String projectTitle, String remarkText) {
+    public SimpleMailMessage remarkNotification(String to, String projectTitle, String remarkText) {
         SimpleMailMessage message = new SimpleMailMessage();
         message.setTo(to);
         message.setSubject("New Remark Added to Your Project");
@@ -19,7 +29,86 @@ public class EmailService {
                 "Remark: " + remarkText + "\n\n" +
                 "Please check the portal for more details.\n\n" +
                 "Regards,\nAdmin");
+        return message;
+    }
+
+    /** One mail for every remark queued for the same team lead. */
+    public SimpleMailMessage remarkDigest(String to, List<EmailOutboxMessage> remarks) {
+        if (remarks.size() == 1) {
+            EmailOutboxMessage only = remarks.get(0);
+            return remarkNotification(to, only.getProjectTitle(), only.getText());
+        }
+
+        StringBuilder body = new StringBuilder("Hello Team Lead,\n\n")
+                .append(remarks.size()).append(" new remarks have been added to your project(s):\n\n");
+        for (EmailOutboxMessage remark : remarks) {
+            body.append("- ").append(remark.getProjectTitle()).append(": ").append(remark.getText()).append("\n");
+        }
+        body.append("\nPlease check the portal for more details.\n\nRegards,\nAdmin");
+
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setTo(to);
+        message.setSubject("New Remarks Added to Your Project");
+        message.setText(body.toString());
+        return message;
+    }
+
+    /** Upcoming deadlines for one team lead; each queued reminder holds one line per deadline. */
+    public SimpleMailMessage deadlineReminder(String to, List<EmailOutboxMessage> reminders) {
+        StringBuilder body = new StringBuilder("Hello Team Lead,\n\n")
+                .append("The following deadlines are coming up:\n\n");
+        for (EmailOutboxMessage reminder : reminders) {
+            body.append(reminder.getText());
+        }
+        body.append("\nPlease check the portal for more details.\n\nRegards,\nAdmin");
+
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setTo(to);
+        message.setSubject("Upcoming Project Deadlines");
+        message.setText(body.toString());
+        return message;
+    }
+
+    /**
+     * Sends all messages over a single SMTP connection. The batch is timed as
+     * {@code mail.send} (tagged by outcome) and undelivered messages are
+     * counted in {@code mail.send.failures}.
+     *
+     * @return the messages that could not be delivered, with the cause
+     */
+    public Map<SimpleMailMessage, Exception> sendAll(List<SimpleMailMessage> messages) {
+        Map<SimpleMailMessage, Exception> failures = new HashMap<>();
+        if (messages.isEmpty()) {
+            return failures;
+        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            mailSender.send(messages.toArray(new SimpleMailMessage[0]));
+        } catch (MailSendException e) {
+            e.getFailedMessages().forEach((message, cause) -> {
+                if (message instanceof SimpleMailMessage simple) {
+                    failures.put(simple, cause);
+                }
+            });
+            if (failures.isEmpty()) {
+                messages.forEach(m -> failures.put(m, e));
+            }
+        } catch (MailException e) {
+            messages.forEach(m -> failures.put(m, e));
+        }
+        record(sample, messages.size(), failures.size());
+        return failures;
+    }
 
-        mailSender.send(message);
+    private void record(Timer.Sample sample, int sent, int failed) {
+        String outcome = failed == 0 ? "success" : failed < sent ? "partial" : "failure";
+        sample.stop(Timer.builder("mail.send")
+                .description("SMTP round trip for one batch of notification mails")
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+        meterRegistry.counter("mail.send.messages").increment(sent);
+        if (failed > 0) {
+            meterRegistry.counter("mail.send.failures").increment(failed);
+        }
     }
-}
\ No newline at end of file
+}
@@ -2,32 +2,131 @@ package com.UAPP.submissionService.service;
 
 import com.UAPP.submissionService.model.ImportantDate;
 import com.UAPP.submissionService.repository.ImportantDateRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * Serves upcoming dates from an in-memory snapshot. The snapshot is loaded
+ * on the first read after a change and dropped on every add or delete. A
+ * one-shot timer set to the earliest date in the snapshot removes entries
+ * as they pass, so reads never query Mongo just because time moved on.
+ */
 @Service
 @RequiredArgsConstructor
-public class ImportantDateService {
-    @Autowired
+public class ImportantDateService implements MeterBinder {
+
     private final ImportantDateRepository repo;
+    private final TaskScheduler taskScheduler;
 
-    public ImportantDateService() {
-        repo = null;
-    }
+    private final AtomicReference<List<ImportantDate>> snapshot = new AtomicReference<>();
+    // Bumped on every write so a load that raced with it is not installed
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicReference<ScheduledFuture<?>> rollOff = new AtomicReference<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder expired = new LongAdder();
 
     public ImportantDate addDate(ImportantDate date) {
-        return repo.save(date);
+        try {
+            return repo.save(date);
+        } finally {
+            invalidate();
+        }
     }
 
     public void deleteDate(String id) {
-        repo.deleteById(id);
+        try {
+            repo.deleteById(id);
+        } finally {
+            invalidate();
+        }
     }
 
     public List<ImportantDate> getUpcomingDates() {
-        return repo.findByDateAfter(Instant.now()); // auto-skip past dates
+        List<ImportantDate> current = snapshot.get();
+        if (current != null) {
+            hits.increment();
+            // The timer may lag by a few milliseconds; never serve a date that has passed
+            return current.isEmpty() || current.get(0).getDate().isAfter(Instant.now())
+                    ? current
+                    : rollOff(current);
+        }
+
+        misses.increment();
+        long loadedAt = generation.get();
+        List<ImportantDate> loaded = List.copyOf(repo.findByDateAfterOrderByDateAsc(Instant.now()));
+        if (generation.get() == loadedAt && snapshot.compareAndSet(null, loaded)) {
+            scheduleRollOff(loaded);
+        }
+        return loaded;
+    }
+
+    private List<ImportantDate> rollOff(List<ImportantDate> current) {
+        Instant now = Instant.now();
+        int firstUpcoming = 0;
+        while (firstUpcoming < current.size() && !current.get(firstUpcoming).getDate().isAfter(now)) {
+            firstUpcoming++;
+        }
+        List<ImportantDate> remaining = List.copyOf(current.subList(firstUpcoming, current.size()));
+        if (snapshot.compareAndSet(current, remaining)) {
+            expired.add(firstUpcoming);
+            scheduleRollOff(remaining);
+        }
+        return remaining;
+    }
+
+    private void scheduleRollOff(List<ImportantDate> current) {
+        ScheduledFuture<?> next = current.isEmpty()
+                ? null
+                : taskScheduler.schedule(() -> rollOffIfCurrent(current), current.get(0).getDate());
+        ScheduledFuture<?> previous = rollOff.getAndSet(next);
+        if (previous != null) {
+            previous.cancel(false);
+        }
+    }
+
+    private void rollOffIfCurrent(List<ImportantDate> scheduledFor) {
+        if (snapshot.get() == scheduledFor) {
+            rollOff(scheduledFor);
+        }
+    }
+
+    private void invalidate() {
+        generation.incrementAndGet();
+        snapshot.set(null);
+        ScheduledFuture<?> previous = rollOff.getAndSet(null);
+        if (previous != null) {
+            previous.cancel(false);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("important_dates.cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("important_dates.cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("important_dates.cache.expired", expired, LongAdder::sum)
+                .description("Dates removed from the snapshot because they passed")
+                .register(registry);
+        Gauge.builder("important_dates.cache.size", snapshot, s -> {
+                    List<ImportantDate> current = s.get();
+                    return current == null ? 0 : current.size();
+                })
+                .register(registry);
     }
-}
\ No newline at end of file
+}
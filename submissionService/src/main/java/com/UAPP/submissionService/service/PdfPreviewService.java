@@ -0,0 +1,246 @@
+package com.UAPP.submissionService.service;
+
+import com.UAPP.submissionService.model.PdfAttachment;
+import com.UAPP.submissionService.model.PdfPreview;
+import com.UAPP.submissionService.model.PreviewStatus;
+import com.UAPP.submissionService.model.Project;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.IOUtils;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.rendering.ImageType;
+import org.apache.pdfbox.rendering.PDFRenderer;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Extracts page count, a text snippet and a first-page thumbnail from
+ * summary PDFs on a small bounded pool, off the request path. Results are
+ * cached in {@code pdf_previews} by content hash and the page count and
+ * snippet are copied onto every attachment with that hash so list views can
+ * show them straight from the summary projection.
+ *
+ * Work that cannot be queued (pool saturated, service restarted) is not
+ * lost: a periodic sweep picks up attachments that still have no preview.
+ */
+@Service
+@Slf4j
+public class PdfPreviewService {
+
+    private static final int SNIPPET_LENGTH = 300;
+
+    private final MongoTemplate mongoTemplate;
+    private final PdfStorageService pdfStorageService;
+    private final ThreadPoolExecutor executor;
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    @Value("${app.pdf.preview.enabled:true}")
+    private boolean enabled;
+    @Value("${app.pdf.preview.thumbnail-width:240}")
+    private int thumbnailWidth;
+    @Value("${app.pdf.preview.sweep-batch:100}")
+    private int sweepBatch;
+
+    public PdfPreviewService(MongoTemplate mongoTemplate,
+                             PdfStorageService pdfStorageService,
+                             @Value("${app.pdf.preview.pool-size:2}") int poolSize,
+                             @Value("${app.pdf.preview.queue-capacity:100}") int queueCapacity) {
+        this.mongoTemplate = mongoTemplate;
+        this.pdfStorageService = pdfStorageService;
+        AtomicInteger counter = new AtomicInteger();
+        // Platform threads: rendering is CPU bound and PDFBox is not tuned for virtual threads
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                task -> {
+                    Thread thread = new Thread(task, "pdf-preview-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /** Queues preview extraction for {@code pdf}; returns immediately. */
+    public void requestPreview(PdfAttachment pdf) {
+        if (!enabled || pdf == null || pdf.getSha256() == null || pdf.getPreviewStatus() != null) {
+            return;
+        }
+        String sha = pdf.getSha256();
+        if (!inFlight.add(sha)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    process(pdf);
+                } catch (RuntimeException e) {
+                    log.warn("Preview extraction for {} failed", sha, e);
+                } finally {
+                    inFlight.remove(sha);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(sha);
+            log.debug("Preview queue full, {} left for the next sweep", sha);
+        }
+    }
+
+    public PdfPreview findPreview(String sha256) {
+        return sha256 == null ? null : mongoTemplate.findById(sha256, PdfPreview.class);
+    }
+
+    @Scheduled(fixedDelayString = "${app.pdf.preview.sweep-interval:PT1M}")
+    public void sweep() {
+        if (!enabled) {
+            return;
+        }
+        Query pending = Query.query(Criteria.where("summaryPdf.previewStatus").is(null)
+                .and("summaryPdf.sha256").ne(null));
+        pending.fields().include("summaryPdf");
+        pending.limit(sweepBatch);
+
+        Set<String> seen = new LinkedHashSet<>();
+        for (Project project : mongoTemplate.find(pending, Project.class)) {
+            PdfAttachment pdf = project.getSummaryPdf();
+            if (seen.add(pdf.getSha256())) {
+                requestPreview(pdf);
+            }
+        }
+    }
+
+    private void process(PdfAttachment pdf) {
+        PdfPreview preview = findPreview(pdf.getSha256());
+        if (preview == null) {
+            preview = extract(pdf);
+            mongoTemplate.save(preview);
+        }
+        apply(preview);
+    }
+
+    /**
+     * Reads the stored PDF and extracts its preview. Only a document PDFBox
+     * cannot load or read yields a FAILED preview; errors fetching the bytes
+     * (GridFS, Mongo, temp disk) are thrown so a later sweep retries them.
+     */
+    PdfPreview extract(PdfAttachment pdf) {
+        PdfPreview.PdfPreviewBuilder preview = PdfPreview.builder()
+                .sha256(pdf.getSha256())
+                .createdAt(Instant.now());
+
+        Path spooled = null;
+        try {
+            // PDFBox needs random access; spool to disk rather than buffering the whole file in heap
+            spooled = Files.createTempFile("pdf-preview", ".pdf");
+            try (InputStream in = pdfStorageService.openResource(pdf).getInputStream()) {
+                Files.copy(in, spooled, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            delete(spooled);
+            throw new UncheckedIOException("Could not read PDF " + pdf.getSha256(), e);
+        } catch (RuntimeException e) {
+            delete(spooled);
+            throw e;
+        }
+
+        try (PDDocument document = Loader.loadPDF(spooled.toFile(), IOUtils.createTempFileOnlyStreamCache())) {
+            return preview.status(PreviewStatus.READY)
+                    .pageCount(document.getNumberOfPages())
+                    .snippet(snippet(document))
+                    .thumbnail(thumbnail(document))
+                    .build();
+        } catch (IOException e) {
+            log.info("Could not extract a preview from {}: {}", pdf.getSha256(), e.toString());
+            return preview.status(PreviewStatus.FAILED).error(e.getMessage()).build();
+        } finally {
+            delete(spooled);
+        }
+    }
+
+    private static void delete(Path spooled) {
+        if (spooled != null) {
+            try {
+                Files.deleteIfExists(spooled);
+            } catch (IOException ignored) {
+                // temp dir cleanup will get it
+            }
+        }
+    }
+
+    private static String snippet(PDDocument document) throws IOException {
+        PDFTextStripper stripper = new PDFTextStripper();
+        stripper.setStartPage(1);
+        stripper.setEndPage(Math.min(2, document.getNumberOfPages()));
+        String text = stripper.getText(document).replaceAll("\\s+", " ").trim();
+        return text.length() <= SNIPPET_LENGTH ? text : text.substring(0, SNIPPET_LENGTH).trim() + "…";
+    }
+
+    private byte[] thumbnail(PDDocument document) throws IOException {
+        if (document.getNumberOfPages() == 0) {
+            return null;
+        }
+        float pageWidth = document.getPage(0).getMediaBox().getWidth();
+        float scale = pageWidth > 0 ? thumbnailWidth / pageWidth : 0.5f;
+        BufferedImage rendered = new PDFRenderer(document).renderImage(0, scale, ImageType.RGB);
+
+        BufferedImage image = rendered;
+        if (rendered.getWidth() != thumbnailWidth) {
+            int height = Math.max(1, Math.round(rendered.getHeight() * (thumbnailWidth / (float) rendered.getWidth())));
+            image = new BufferedImage(thumbnailWidth, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = image.createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.drawImage(rendered, 0, 0, thumbnailWidth, height, null);
+            g.dispose();
+        }
+
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", png);
+        return png.toByteArray();
+    }
+
+    // Copies the summary onto every attachment with this content that does not have it yet
+    private void apply(PdfPreview preview) {
+        Update update = new Update()
+                .set("summaryPdf.previewStatus", preview.getStatus())
+                .inc("version", 1);
+        if (preview.getStatus() == PreviewStatus.READY) {
+            update.set("summaryPdf.pageCount", preview.getPageCount())
+                    .set("summaryPdf.snippet", preview.getSnippet());
+        }
+        mongoTemplate.updateMulti(
+                Query.query(Criteria.where("summaryPdf.sha256").is(preview.getSha256())
+                        .and("summaryPdf.previewStatus").is(null)),
+                update, Project.class);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
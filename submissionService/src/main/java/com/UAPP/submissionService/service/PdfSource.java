@@ -0,0 +1,25 @@
+package com.UAPP.submissionService.service;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * PDF bytes that can be read more than once. Storage hashes the content in a
+ * first pass and only streams it into GridFS when no identical copy exists.
+ */
+@FunctionalInterface
+public interface PdfSource {
+
+    InputStream open() throws IOException;
+
+    static PdfSource of(MultipartFile file) {
+        return file::getInputStream;
+    }
+
+    static PdfSource of(byte[] bytes) {
+        return () -> new ByteArrayInputStream(bytes);
+    }
+}
@@ -0,0 +1,278 @@
+package com.UAPP.submissionService.service;
+
+import com.UAPP.submissionService.dto.PdfStorageStats;
+import com.UAPP.submissionService.model.PdfAttachment;
+import com.UAPP.submissionService.model.PdfBlob;
+import com.UAPP.submissionService.model.PdfPreview;
+import com.mongodb.client.gridfs.GridFSBucket;
+import com.mongodb.client.gridfs.GridFSBuckets;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.ArithmeticOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.gridfs.GridFsTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.function.LongConsumer;
+
+/**
+ * Stores project summary PDFs in GridFS, once per distinct content. Blobs
+ * are keyed by SHA-256 in {@code pdf_blobs} and reference counted: storing
+ * bytes that already exist only bumps the count, and releasing the last
+ * reference deletes the GridFS file. Uploads are copied chunk by chunk, so
+ * heap use does not depend on the file size.
+ *
+ * Accepted uploads are recorded in {@code pdf.upload.size} (tagged by whether
+ * the bytes were new) and bytes streamed back to clients in
+ * {@code pdf.download.size}, one sample per opened download stream.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PdfStorageService {
+
+    private static final String DEFAULT_FILENAME = "summary.pdf";
+
+    private final GridFsTemplate gridFsTemplate;
+    private final MongoDatabaseFactory mongoDatabaseFactory;
+    private final MongoTemplate mongoTemplate;
+    private final MeterRegistry meterRegistry;
+
+    public record Digest(String sha256, long size) {
+    }
+
+    public PdfAttachment store(MultipartFile file) throws IOException {
+        return store(PdfSource.of(file), file.getOriginalFilename());
+    }
+
+    public PdfAttachment store(PdfSource source, String filename) throws IOException {
+        return store(source, filename, digest(source));
+    }
+
+    /** Hashes the content without storing it. */
+    public Digest digest(PdfSource source) throws IOException {
+        MessageDigest digest = sha256();
+        try (CountingInputStream in = new CountingInputStream(new DigestInputStream(source.open(), digest))) {
+            in.transferTo(OutputStream.nullOutputStream());
+            return new Digest(HexFormat.of().formatHex(digest.digest()), in.getCount());
+        }
+    }
+
+    /** Takes a reference on the blob for {@code digest}, writing the bytes only if no copy exists yet. */
+    public PdfAttachment store(PdfSource source, String filename, Digest digest) throws IOException {
+        String name = (filename == null || filename.isBlank()) ? DEFAULT_FILENAME : filename;
+
+        PdfBlob blob = acquireExisting(digest.sha256());
+        boolean duplicate = blob != null;
+        if (blob == null) {
+            blob = write(source, name, digest);
+        }
+        sizeSummary("pdf.upload.size", "Accepted summary PDF uploads")
+                .tag("stored", duplicate ? "duplicate" : "new")
+                .register(meterRegistry)
+                .record(blob.getSize());
+
+        return PdfAttachment.builder()
+                .fileId(blob.getFileId())
+                .filename(name)
+                .contentType(MediaType.APPLICATION_PDF_VALUE)
+                .size(blob.getSize())
+                .sha256(blob.getSha256())
+                .uploadedAt(Instant.now())
+                .build();
+    }
+
+    /** Drops one reference; the GridFS file goes once nothing points at it. */
+    public void release(PdfAttachment attachment) {
+        if (attachment == null || attachment.getFileId() == null) {
+            return;
+        }
+        String sha = attachment.getSha256();
+        Query tracked = Query.query(Criteria.where("_id").is(sha).and("fileId").is(attachment.getFileId()));
+        PdfBlob blob = sha == null ? null : mongoTemplate.findAndModify(
+                tracked, new Update().inc("refCount", -1),
+                FindAndModifyOptions.options().returnNew(true), PdfBlob.class);
+        if (blob == null) {
+            // A private copy written before deduplication; nothing else points at it
+            deleteFile(attachment.getFileId());
+            return;
+        }
+        if (blob.getRefCount() <= 0) {
+            collect(sha);
+        }
+    }
+
+    public StoredPdfResource openResource(PdfAttachment attachment) {
+        ObjectId fileId = new ObjectId(attachment.getFileId());
+        DistributionSummary downloads = sizeSummary("pdf.download.size", "Summary PDF bytes streamed to clients")
+                .register(meterRegistry);
+        return new StoredPdfResource(attachment,
+                () -> new CountingInputStream(bucket().openDownloadStream(fileId), downloads::record));
+    }
+
+    public PdfStorageStats stats() {
+        Aggregation totals = Aggregation.newAggregation(
+                Aggregation.group()
+                        .count().as("blobs")
+                        .sum("refCount").as("references")
+                        .sum("size").as("storedBytes")
+                        .sum(ArithmeticOperators.Multiply.valueOf("size").multiplyBy("refCount")).as("referencedBytes"));
+        Document result = mongoTemplate.aggregate(totals, PdfBlob.class, Document.class).getUniqueMappedResult();
+        if (result == null) {
+            return new PdfStorageStats();
+        }
+        long stored = number(result, "storedBytes");
+        long referenced = number(result, "referencedBytes");
+        return PdfStorageStats.builder()
+                .blobs(number(result, "blobs"))
+                .references(number(result, "references"))
+                .storedBytes(stored)
+                .referencedBytes(referenced)
+                .savedBytes(referenced - stored)
+                .build();
+    }
+
+    private PdfBlob acquireExisting(String sha) {
+        return mongoTemplate.findAndModify(byHash(sha), new Update().inc("refCount", 1),
+                FindAndModifyOptions.options().returnNew(true), PdfBlob.class);
+    }
+
+    private PdfBlob write(PdfSource source, String name, Digest expected) throws IOException {
+        MessageDigest digest = sha256();
+        ObjectId fileId;
+        try (InputStream in = new DigestInputStream(source.open(), digest)) {
+            fileId = gridFsTemplate.store(in, name, MediaType.APPLICATION_PDF_VALUE);
+        }
+        if (!HexFormat.of().formatHex(digest.digest()).equals(expected.sha256())) {
+            deleteFile(fileId.toHexString());
+            throw new IllegalStateException("PDF content changed while it was being stored");
+        }
+
+        PdfBlob blob = PdfBlob.builder()
+                .sha256(expected.sha256())
+                .fileId(fileId.toHexString())
+                .size(expected.size())
+                .refCount(1)
+                .createdAt(Instant.now())
+                .build();
+        try {
+            return mongoTemplate.insert(blob);
+        } catch (DuplicateKeyException e) {
+            // Someone stored the same bytes concurrently: keep theirs and drop our copy
+            deleteFile(blob.getFileId());
+            PdfBlob existing = acquireExisting(expected.sha256());
+            if (existing == null) {
+                throw new IllegalStateException("PDF blob " + expected.sha256() + " vanished during store", e);
+            }
+            return existing;
+        }
+    }
+
+    // Removal is conditional on the count so a concurrent acquire always wins
+    private void collect(String sha) {
+        PdfBlob removed = mongoTemplate.findAndRemove(
+                Query.query(Criteria.where("_id").is(sha).and("refCount").lte(0)), PdfBlob.class);
+        if (removed != null) {
+            deleteFile(removed.getFileId());
+            mongoTemplate.remove(byHash(sha), PdfPreview.class);
+            log.debug("Collected PDF blob {} ({} bytes)", sha, removed.getSize());
+        }
+    }
+
+    private void deleteFile(String fileId) {
+        if (fileId != null && ObjectId.isValid(fileId)) {
+            gridFsTemplate.delete(Query.query(Criteria.where("_id").is(new ObjectId(fileId))));
+        }
+    }
+
+    private GridFSBucket bucket() {
+        return GridFSBuckets.create(mongoDatabaseFactory.getMongoDatabase());
+    }
+
+    private static DistributionSummary.Builder sizeSummary(String name, String description) {
+        return DistributionSummary.builder(name)
+                .description(description)
+                .baseUnit("bytes");
+    }
+
+    private static Query byHash(String sha) {
+        return Query.query(Criteria.where("_id").is(sha));
+    }
+
+    private static long number(Document document, String key) {
+        Object value = document.get(key);
+        return value instanceof Number n ? n.longValue() : 0L;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+        private final LongConsumer onClose;
+        private long count;
+        private boolean closed;
+
+        private CountingInputStream(InputStream in) {
+            this(in, null);
+        }
+
+        private CountingInputStream(InputStream in, LongConsumer onClose) {
+            super(in);
+            this.onClose = onClose;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) count++;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) count += n;
+            return n;
+        }
+
+        @Override
+        public void close() throws IOException {
+            super.close();
+            if (!closed && onClose != null) {
+                onClose.accept(count);
+            }
+            closed = true;
+        }
+
+        long getCount() {
+            return count;
+        }
+    }
+}
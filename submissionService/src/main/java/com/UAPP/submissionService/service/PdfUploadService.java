@@ -0,0 +1,208 @@
+package com.UAPP.submissionService.service;
+
+import com.UAPP.submissionService.model.Project;
+import com.UAPP.submissionService.model.UploadSession;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Resumable summary PDF uploads. A client opens a session for a project,
+ * sends the file as consecutive chunks (each starting at the offset the
+ * server has acknowledged) and completes the session once every byte is in.
+ * After a dropped connection it asks for the session and continues from the
+ * returned offset instead of starting over.
+ *
+ * Chunks are appended to a temporary file through a fixed copy buffer; on
+ * completion the file is hashed and streamed into GridFS by
+ * {@link PdfStorageService} exactly like a multipart upload, so no step
+ * holds the whole PDF in memory. Session state lives in Mongo but the file
+ * is local, so a session must be continued on the node that created it.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PdfUploadService {
+
+    private static final String SUFFIX = ".part";
+
+    private final MongoTemplate mongoTemplate;
+    private final ProjectService projectService;
+
+    @Value("${app.uploads.dir:${java.io.tmpdir}/uapp-uploads}")
+    private Path directory;
+    @Value("${app.uploads.max-size:50MB}")
+    private DataSize maxSize;
+    @Value("${app.uploads.idle-timeout:PT24H}")
+    private Duration idleTimeout;
+
+    // One writer per session; a concurrent chunk or completion is rejected rather than interleaved
+    private final ConcurrentHashMap<String, ReentrantLock> writers = new ConcurrentHashMap<>();
+
+    public UploadSession create(String projectId, String owner, String filename, long size) throws IOException {
+        if (size <= 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "size must be positive");
+        }
+        if (size > maxSize.toBytes()) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+                    "PDF exceeds the " + maxSize.toMegabytes() + " MB limit");
+        }
+        Instant now = Instant.now();
+        UploadSession session = UploadSession.builder()
+                .id(UUID.randomUUID().toString())
+                .projectId(projectId)
+                .owner(owner)
+                .filename(filename)
+                .size(size)
+                .received(0)
+                .createdAt(now)
+                .expiresAt(now.plus(idleTimeout))
+                .build();
+        Files.createDirectories(directory);
+        Files.createFile(file(session));
+        return mongoTemplate.insert(session);
+    }
+
+    public Optional<UploadSession> find(String id) {
+        return Optional.ofNullable(mongoTemplate.findById(id, UploadSession.class));
+    }
+
+    /**
+     * Writes one chunk at {@code offset}, which must equal the bytes already
+     * received. Whatever arrived before the client went away is kept, so a
+     * broken chunk is resumed from where it stopped.
+     */
+    public UploadSession append(UploadSession session, long offset, InputStream body) throws IOException {
+        ReentrantLock lock = lock(session);
+        try {
+            UploadSession current = find(session.getId())
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Upload not found"));
+            if (offset != current.getReceived()) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT,
+                        "Expected offset " + current.getReceived() + " but got " + offset);
+            }
+
+            long written = 0;
+            try (FileChannel channel = FileChannel.open(file(current), StandardOpenOption.WRITE)) {
+                // Drop anything past the acknowledged offset left by a write that failed to record
+                channel.truncate(offset);
+                channel.position(offset);
+                OutputStream out = Channels.newOutputStream(channel);
+                long limit = current.getSize() - offset;
+                byte[] buffer = new byte[64 * 1024];
+                int n;
+                while ((n = body.read(buffer)) != -1) {
+                    if (written + n > limit) {
+                        throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                                "Chunk runs past the declared size of " + current.getSize() + " bytes");
+                    }
+                    out.write(buffer, 0, n);
+                    written += n;
+                }
+            } finally {
+                if (written > 0) {
+                    current = advance(current, offset, written);
+                }
+            }
+            return current;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Stores the assembled file, attaches it to the project and removes the session. */
+    public Project complete(UploadSession session) throws IOException {
+        ReentrantLock lock = lock(session);
+        try {
+            UploadSession current = find(session.getId())
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Upload not found"));
+            if (current.getReceived() != current.getSize()) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "Upload incomplete: "
+                        + current.getReceived() + " of " + current.getSize() + " bytes received");
+            }
+            Path file = file(current);
+            Project project = projectService.attachPdf(current.getProjectId(), () -> Files.newInputStream(file),
+                    current.getFilename());
+            discard(current);
+            return project;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void abort(UploadSession session) {
+        discard(session);
+    }
+
+    /** Removes sessions nobody has written to within the idle timeout, together with their files. */
+    @Scheduled(fixedDelayString = "${app.uploads.sweep-interval:PT15M}")
+    public void sweep() {
+        Query expired = Query.query(Criteria.where("expiresAt").lt(Instant.now()));
+        List<UploadSession> sessions = mongoTemplate.find(expired, UploadSession.class);
+        sessions.forEach(this::discard);
+        if (!sessions.isEmpty()) {
+            log.info("Removed {} abandoned PDF uploads", sessions.size());
+        }
+    }
+
+    private UploadSession advance(UploadSession session, long offset, long written) {
+        Query query = Query.query(Criteria.where("_id").is(session.getId()).and("received").is(offset));
+        Update update = new Update()
+                .set("received", offset + written)
+                .set("expiresAt", Instant.now().plus(idleTimeout));
+        UploadSession updated = mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().returnNew(true), UploadSession.class);
+        if (updated == null) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Upload changed while the chunk was written");
+        }
+        return updated;
+    }
+
+    private ReentrantLock lock(UploadSession session) {
+        ReentrantLock lock = writers.computeIfAbsent(session.getId(), id -> new ReentrantLock());
+        if (!lock.tryLock()) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Another request is writing to this upload");
+        }
+        return lock;
+    }
+
+    private void discard(UploadSession session) {
+        try {
+            Files.deleteIfExists(file(session));
+        } catch (IOException e) {
+            log.warn("Could not delete upload file for session {}", session.getId(), e);
+        }
+        mongoTemplate.remove(Query.query(Criteria.where("_id").is(session.getId())), UploadSession.class);
+        writers.remove(session.getId());
+    }
+
+    private Path file(UploadSession session) {
+        return directory.resolve(session.getId() + SUFFIX);
+    }
+}
@@ -0,0 +1,121 @@
+package com.UAPP.submissionService.service;
+
+import com.UAPP.submissionService.dto.ProjectStats;
+import com.UAPP.submissionService.model.Project;
+import com.UAPP.submissionService.model.ProjectCounters;
+import com.UAPP.submissionService.repository.ProjectRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Maintains {@link ProjectCounters} so dashboard totals are a single
+ * document read. Writers report what changed and the counters are adjusted
+ * with one {@code $inc}; increments never create the document, so a
+ * missing or stale one is rebuilt from an aggregation instead of starting
+ * from zero. A periodic reconcile overwrites the totals to absorb drift
+ * from crashes between a write and its counter update.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProjectCounterService {
+
+    private final MongoTemplate mongoTemplate;
+    private final ProjectRepository projectRepository;
+
+    public void projectCreated(Project project) {
+        projectsAdded(List.of(project));
+    }
+
+    public void projectsAdded(List<Project> projects) {
+        if (projects.isEmpty()) {
+            return;
+        }
+        long withPdf = projects.stream().filter(ProjectCounterService::hasPdf).count();
+        apply(new Update().inc("projects", projects.size()).inc("withPdf", withPdf));
+    }
+
+    /** A PDF was attached to a project that had none (legacy rows); replacing one changes nothing. */
+    public void pdfAttached() {
+        apply(new Update().inc("withPdf", 1));
+    }
+
+    public void projectDeleted(Project project) {
+        Update update = new Update().inc("projects", -1);
+        if (hasPdf(project)) {
+            update.inc("withPdf", -1);
+        }
+        if (project.getRemarkCount() > 0) {
+            update.inc("remarkedProjects", -1).inc("remarks", -project.getRemarkCount());
+        }
+        apply(update);
+    }
+
+    /** {@code project} is the state after the remark was recorded. */
+    public void remarkAdded(Project project) {
+        Update update = new Update().inc("remarks", 1);
+        if (project.getRemarkCount() == 1) {
+            update.inc("remarkedProjects", 1);
+        }
+        apply(update);
+    }
+
+    public ProjectStats summary() {
+        ProjectCounters counters = mongoTemplate.findById(ProjectCounters.GLOBAL, ProjectCounters.class);
+        if (counters == null) {
+            counters = reconcile();
+        }
+        return ProjectStats.builder()
+                .total(counters.getProjects())
+                .withPdf(counters.getWithPdf())
+                .withoutPdf(counters.getProjects() - counters.getWithPdf())
+                .remarked(counters.getRemarkedProjects())
+                .unremarked(counters.getProjects() - counters.getRemarkedProjects())
+                .remarks(counters.getRemarks())
+                .reconciledAt(counters.getReconciledAt())
+                .build();
+    }
+
+    @Scheduled(fixedDelayString = "${app.projects.counters.reconcile-interval:PT1H}",
+            initialDelayString = "${app.projects.counters.reconcile-interval:PT1H}")
+    public void scheduledReconcile() {
+        ProjectCounters before = mongoTemplate.findById(ProjectCounters.GLOBAL, ProjectCounters.class);
+        ProjectCounters after = reconcile();
+        if (before != null && (before.getProjects() != after.getProjects() || before.getWithPdf() != after.getWithPdf()
+                || before.getRemarkedProjects() != after.getRemarkedProjects() || before.getRemarks() != after.getRemarks())) {
+            log.info("Project counters drifted and were corrected: {} -> {}", before, after);
+        }
+    }
+
+    /** Recomputes the totals from the projects collection and stores them. */
+    public ProjectCounters reconcile() {
+        ProjectStats stats = projectRepository.aggregateStats();
+        ProjectCounters counters = ProjectCounters.builder()
+                .id(ProjectCounters.GLOBAL)
+                .projects(stats.getTotal())
+                .withPdf(stats.getWithPdf())
+                .remarkedProjects(stats.getRemarked())
+                .remarks(stats.getRemarks())
+                .reconciledAt(Instant.now())
+                .build();
+        return mongoTemplate.save(counters);
+    }
+
+    private void apply(Update update) {
+        mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(ProjectCounters.GLOBAL)), update,
+                ProjectCounters.class);
+    }
+
+    private static boolean hasPdf(Project project) {
+        return project.getSummaryPdf() != null && project.getSummaryPdf().getFileId() != null;
+    }
+}
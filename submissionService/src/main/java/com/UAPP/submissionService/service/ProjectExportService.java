@@ -0,0 +1,124 @@
+package com.UAPP.submissionService.service;
+
+import com.UAPP.submissionService.dto.ExportFormat;
+import com.UAPP.submissionService.dto.ProjectFilter;
+import com.UAPP.submissionService.model.Project;
+import com.UAPP.submissionService.repository.ProjectRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Writes projects matching a filter as NDJSON or CSV, one row at a time from
+ * a Mongo cursor. Nothing is collected in memory, so the cost of an export
+ * is one batch of documents regardless of how many projects exist.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProjectExportService {
+
+    static final List<String> COLUMNS = List.of("id", "title", "description", "students", "guideName",
+            "coGuideName", "email", "url", "githubRepo", "startDate", "finalSubmissionDate", "createdBy",
+            "remarkCount", "lastRemarkAt", "pdfSize", "pdfSha256");
+
+    private static final int FLUSH_EVERY = 200;
+
+    private final ProjectRepository projectRepository;
+    private final ObjectMapper objectMapper;
+
+    public void export(ProjectFilter filter, ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<Project> projects = projectRepository.streamForExport(filter)) {
+            Iterator<Project> rows = projects.iterator();
+            switch (format) {
+                case NDJSON -> writeNdjson(rows, out);
+                case CSV -> writeCsv(rows, out);
+            }
+        }
+    }
+
+    private void writeNdjson(Iterator<Project> rows, OutputStream out) throws IOException {
+        JsonGenerator json = objectMapper.getFactory().createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        int written = 0;
+        while (rows.hasNext()) {
+            json.writeObject(row(rows.next()));
+            json.writeRaw('\n');
+            if (++written % FLUSH_EVERY == 0) {
+                json.flush();
+            }
+        }
+        json.close();
+    }
+
+    private void writeCsv(Iterator<Project> rows, OutputStream out) throws IOException {
+        Writer csv = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        csv.write(String.join(",", COLUMNS));
+        csv.write("\r\n");
+        int written = 0;
+        while (rows.hasNext()) {
+            Map<String, Object> row = row(rows.next());
+            boolean first = true;
+            for (String column : COLUMNS) {
+                if (!first) csv.write(',');
+                csv.write(csvCell(row.get(column)));
+                first = false;
+            }
+            csv.write("\r\n");
+            if (++written % FLUSH_EVERY == 0) {
+                csv.flush();
+            }
+        }
+        csv.flush();
+    }
+
+    private static Map<String, Object> row(Project project) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", project.getId());
+        row.put("title", project.getTitle());
+        row.put("description", project.getDescription());
+        row.put("students", project.getStudents());
+        row.put("guideName", project.getGuideName());
+        row.put("coGuideName", project.getCoGuideName());
+        row.put("email", project.getEmail());
+        row.put("url", project.getUrl());
+        row.put("githubRepo", project.getGithubRepo());
+        row.put("startDate", project.getStartDate());
+        row.put("finalSubmissionDate", project.getFinalSubmissionDate());
+        row.put("createdBy", project.getCreatedBy());
+        row.put("remarkCount", project.getRemarkCount());
+        row.put("lastRemarkAt", project.getLastRemarkAt());
+        row.put("pdfSize", project.getSummaryPdf() == null ? null : project.getSummaryPdf().getSize());
+        row.put("pdfSha256", project.getSummaryPdf() == null ? null : project.getSummaryPdf().getSha256());
+        return row;
+    }
+
+    static String csvCell(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value instanceof List<?> list
+                ? String.join(";", list.stream().map(String::valueOf).toList())
+                : value.toString();
+        // Spreadsheets evaluate cells starting with these as formulas
+        if (!text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0 && !(value instanceof Number)) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            text = "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
@@ -0,0 +1,384 @@
+package com.UAPP.submissionService.service;
+
+import com.UAPP.submissionService.dto.ImportReport;
+import com.UAPP.submissionService.dto.ProjectImportRow;
+import com.UAPP.submissionService.model.PdfAttachment;
+import com.UAPP.submissionService.model.Project;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.bulk.BulkWriteError;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Bulk project import. Rows are parsed one at a time from NDJSON or from the
+ * manifest of a ZIP archive, validated, and written with unordered bulk
+ * inserts in batches of {@code app.projects.import.batch-size}. A bad row
+ * never aborts the import: it is reported with its row number and the rest
+ * of the batch is still written.
+ *
+ * A ZIP holds {@code manifest.csv}, {@code manifest.json} (an array) or
+ * {@code manifest.ndjson}, plus the PDFs its {@code pdf} column refers to.
+ * The upload is spooled to a temp file so entries can be opened by name.
+ */
+@Service
+@Slf4j
+public class ProjectImportService {
+
+    private static final List<String> MANIFEST_NAMES = List.of("manifest.csv", "manifest.json", "manifest.ndjson");
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+    @Autowired
+    private PdfStorageService pdfStorageService;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private PdfPreviewService pdfPreviewService;
+    @Autowired
+    private ProjectCounterService projectCounterService;
+
+    @Value("${app.projects.import.batch-size:500}")
+    private int batchSize;
+    @Value("${app.projects.import.max-zip-size:1GB}")
+    private DataSize maxZipSize;
+
+    public ImportReport importNdjson(InputStream body, String importedBy) throws IOException {
+        Batch batch = new Batch(importedBy, null);
+        readNdjson(new InputStreamReader(body, StandardCharsets.UTF_8), batch);
+        return batch.finish();
+    }
+
+    public ImportReport importZip(InputStream body, String importedBy) throws IOException {
+        Path spooled = Files.createTempFile("project-import", ".zip");
+        try {
+            spool(body, spooled);
+            try (ZipFile zip = new ZipFile(spooled.toFile())) {
+                ZipEntry manifest = MANIFEST_NAMES.stream()
+                        .map(zip::getEntry)
+                        .filter(entry -> entry != null)
+                        .findFirst()
+                        .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                                "ZIP must contain one of " + MANIFEST_NAMES));
+
+                Batch batch = new Batch(importedBy, zip);
+                try (Reader reader = new InputStreamReader(zip.getInputStream(manifest), StandardCharsets.UTF_8)) {
+                    switch (manifest.getName()) {
+                        case "manifest.csv" -> readCsv(reader, batch);
+                        case "manifest.json" -> readJsonArray(reader, batch);
+                        default -> readNdjson(reader, batch);
+                    }
+                }
+                return batch.finish();
+            }
+        } finally {
+            Files.deleteIfExists(spooled);
+        }
+    }
+
+    private void spool(InputStream body, Path target) throws IOException {
+        long limit = maxZipSize.toBytes();
+        long copied = 0;
+        byte[] buffer = new byte[64 * 1024];
+        try (OutputStream out = Files.newOutputStream(target)) {
+            int n;
+            while ((n = body.read(buffer)) != -1) {
+                copied += n;
+                if (copied > limit) {
+                    throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+                            "Import archive exceeds " + maxZipSize);
+                }
+                out.write(buffer, 0, n);
+            }
+        }
+    }
+
+    private void readNdjson(Reader source, Batch batch) throws IOException {
+        BufferedReader lines = new BufferedReader(source);
+        String line;
+        int row = 0;
+        while ((line = lines.readLine()) != null) {
+            if (line.isBlank()) continue;
+            row++;
+            try {
+                batch.add(row, objectMapper.readValue(line, ProjectImportRow.class));
+            } catch (JsonProcessingException e) {
+                batch.reject(row, "Unreadable row: " + e.getOriginalMessage());
+            }
+        }
+    }
+
+    private void readJsonArray(Reader source, Batch batch) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(source)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "manifest.json must be a JSON array");
+            }
+            int row = 0;
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                row++;
+                // Read the whole object first so a bad value cannot desync the parser
+                JsonNode node = parser.readValueAsTree();
+                try {
+                    batch.add(row, objectMapper.treeToValue(node, ProjectImportRow.class));
+                } catch (JsonProcessingException e) {
+                    batch.reject(row, "Unreadable row: " + e.getOriginalMessage());
+                }
+            }
+        }
+    }
+
+    private void readCsv(Reader source, Batch batch) throws IOException {
+        CsvReader csv = new CsvReader(source);
+        List<String> header = csv.next();
+        if (header == null) {
+            return;
+        }
+        int row = 0;
+        List<String> cells;
+        while ((cells = csv.next()) != null) {
+            row++;
+            Map<String, Object> values = new HashMap<>();
+            for (int i = 0; i < header.size() && i < cells.size(); i++) {
+                String cell = cells.get(i);
+                if (cell.isEmpty()) continue;
+                String column = header.get(i).trim();
+                values.put(column, column.equals("students") ? Arrays.asList(cell.split("\\s*;\\s*")) : cell);
+            }
+            try {
+                batch.add(row, objectMapper.convertValue(values, ProjectImportRow.class));
+            } catch (IllegalArgumentException e) {
+                batch.reject(row, "Unreadable row: " + e.getMessage());
+            }
+        }
+    }
+
+    /** Collects valid rows and flushes them as one unordered bulk insert. */
+    private final class Batch {
+        private final String importedBy;
+        private final ZipFile zip;
+        private final ImportReport report = new ImportReport();
+        private List<Project> pending = new ArrayList<>();
+        private List<ImportReport.RowResult> pendingResults = new ArrayList<>();
+        private final long started = System.nanoTime();
+
+        private Batch(String importedBy, ZipFile zip) {
+            this.importedBy = importedBy;
+            this.zip = zip;
+        }
+
+        void add(int row, ProjectImportRow input) {
+            String error = validate(input);
+            if (error != null) {
+                reject(row, error);
+                return;
+            }
+
+            PdfAttachment pdf = null;
+            if (input.getPdf() != null && !input.getPdf().isBlank()) {
+                ZipEntry entry = zip.getEntry(input.getPdf());
+                try {
+                    pdf = pdfStorageService.store(() -> zip.getInputStream(entry), input.getPdf());
+                } catch (IOException e) {
+                    reject(row, "Could not read " + input.getPdf());
+                    return;
+                }
+            }
+
+            Project project = Project.builder()
+                    .id(new ObjectId().toHexString())
+                    .title(input.getTitle())
+                    .description(input.getDescription())
+                    .students(input.getStudents())
+                    .guideName(input.getGuideName())
+                    .coGuideName(input.getCoGuideName())
+                    .email(input.getEmail())
+                    .url(input.getUrl())
+                    .githubRepo(input.getGithubRepo())
+                    .startDate(input.getStartDate())
+                    .finalSubmissionDate(input.getFinalSubmissionDate())
+                    .summaryPdf(pdf)
+                    .createdBy(hasText(input.getCreatedBy()) ? input.getCreatedBy() : importedBy)
+                    .version(0L)
+                    .build();
+            pending.add(project);
+            pendingResults.add(new ImportReport.RowResult(row, true, project.getId(), null));
+            report.setTotal(report.getTotal() + 1);
+            if (pending.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void reject(int row, String error) {
+            report.getRows().add(new ImportReport.RowResult(row, false, null, error));
+            report.setTotal(report.getTotal() + 1);
+            report.setFailed(report.getFailed() + 1);
+        }
+
+        private String validate(ProjectImportRow input) {
+            if (!hasText(input.getTitle())) {
+                return "title is required";
+            }
+            if (hasText(input.getEmail()) && !input.getEmail().contains("@")) {
+                return "email is not valid";
+            }
+            if (input.getStartDate() != null && input.getFinalSubmissionDate() != null
+                    && input.getFinalSubmissionDate().isBefore(input.getStartDate())) {
+                return "finalSubmissionDate is before startDate";
+            }
+            if (hasText(input.getPdf())) {
+                if (zip == null) {
+                    return "pdf is only supported in ZIP imports";
+                }
+                if (zip.getEntry(input.getPdf()) == null) {
+                    return "No ZIP entry named " + input.getPdf();
+                }
+            }
+            return null;
+        }
+
+        private void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            try {
+                mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Project.class)
+                        .insert(pending)
+                        .execute();
+            } catch (BulkOperationException e) {
+                for (BulkWriteError error : e.getErrors()) {
+                    ImportReport.RowResult result = pendingResults.get(error.getIndex());
+                    Project project = pending.get(error.getIndex());
+                    result.setImported(false);
+                    result.setProjectId(null);
+                    result.setError(error.getMessage());
+                    pdfStorageService.release(project.getSummaryPdf());
+                }
+            } catch (RuntimeException e) {
+                // The outcome of the batch is unknown; don't leave its stored PDFs without an owner
+                for (Project project : pending) {
+                    pdfStorageService.release(project.getSummaryPdf());
+                }
+                throw e;
+            }
+            List<Project> inserted = new ArrayList<>(pending.size());
+            for (int i = 0; i < pendingResults.size(); i++) {
+                ImportReport.RowResult result = pendingResults.get(i);
+                if (result.isImported()) {
+                    inserted.add(pending.get(i));
+                    pdfPreviewService.requestPreview(pending.get(i).getSummaryPdf());
+                    report.setImported(report.getImported() + 1);
+                } else {
+                    report.setFailed(report.getFailed() + 1);
+                }
+                report.getRows().add(result);
+            }
+            projectCounterService.projectsAdded(inserted);
+            pending = new ArrayList<>();
+            pendingResults = new ArrayList<>();
+        }
+
+        ImportReport finish() {
+            flush();
+            report.getRows().sort((a, b) -> Integer.compare(a.getRow(), b.getRow()));
+            report.setDurationMillis((System.nanoTime() - started) / 1_000_000);
+            log.info("Imported {}/{} projects in {} ms", report.getImported(), report.getTotal(),
+                    report.getDurationMillis());
+            return report;
+        }
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    /** Minimal RFC 4180 reader: quoted cells may contain commas, quotes and newlines. */
+    static final class CsvReader {
+        private final Reader in;
+        private int peeked = -2;
+
+        CsvReader(Reader in) {
+            this.in = in instanceof BufferedReader ? in : new BufferedReader(in);
+        }
+
+        List<String> next() throws IOException {
+            if (peek() == -1) {
+                return null;
+            }
+            List<String> cells = new ArrayList<>();
+            StringBuilder cell = new StringBuilder();
+            boolean quoted = false;
+            while (true) {
+                int c = read();
+                if (quoted) {
+                    if (c == -1) {
+                        break;
+                    } else if (c == '"') {
+                        if (peek() == '"') {
+                            cell.append((char) read());
+                        } else {
+                            quoted = false;
+                        }
+                    } else {
+                        cell.append((char) c);
+                    }
+                } else if (c == '"' && cell.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    cells.add(cell.toString());
+                    cell.setLength(0);
+                } else if (c == '\r' || c == '\n' || c == -1) {
+                    if (c == '\r' && peek() == '\n') {
+                        read();
+                    }
+                    break;
+                } else {
+                    cell.append((char) c);
+                }
+            }
+            cells.add(cell.toString());
+            return cells;
+        }
+
+        private int peek() throws IOException {
+            if (peeked == -2) {
+                peeked = in.read();
+            }
+            return peeked;
+        }
+
+        private int read() throws IOException {
+            int c = peek();
+            peeked = -2;
+            return c;
+        }
+    }
+}
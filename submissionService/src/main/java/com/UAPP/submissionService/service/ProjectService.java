@@ -1,24 +1,62 @@
 package com.UAPP.submissionService.service;
 
 import com.UAPP.submissionService.dto.ProjectRequest;
+import com.UAPP.submissionService.dto.ProjectFilter;
+import com.UAPP.submissionService.dto.ProjectPage;
+import com.UAPP.submissionService.dto.ProjectSort;
+import com.UAPP.submissionService.model.PdfAttachment;
 import com.UAPP.submissionService.model.Project;
+import com.UAPP.submissionService.model.Remark;
+import com.UAPP.submissionService.repository.ProjectCursor;
 import com.UAPP.submissionService.repository.ProjectRepository;
-import org.bson.BsonBinarySubType;
-import org.bson.types.Binary;
+import com.UAPP.submissionService.repository.RemarkRepository;
+import com.UAPP.submissionService.repository.SearchCursor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.io.IOException;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 public class ProjectService {
 
+    private static final Set<String> PATCHABLE_FIELDS = Set.of("title", "description", "students", "guideName",
+            "coGuideName", "email", "url", "githubRepo", "startDate", "finalSubmissionDate");
+
     @Autowired
     private ProjectRepository projectRepository;
+    @Autowired
+    private RemarkRepository remarkRepository;
+    @Autowired
+    private PdfStorageService pdfStorageService;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private PdfPreviewService pdfPreviewService;
+    @Autowired
+    private ProjectCounterService projectCounterService;
 
-    public Project createProject(ProjectRequest request, byte[] pdfBytes, String username) {
+    @Value("${app.projects.page-size:50}")
+    private int defaultPageSize;
+    @Value("${app.projects.max-page-size:200}")
+    private int maxPageSize;
+
+    public Project createProject(ProjectRequest request, MultipartFile file, String username) throws IOException {
+        PdfAttachment pdf = pdfStorageService.store(file);
 
         Project project = Project.builder()
                 .title(request.getTitle())
@@ -31,50 +69,144 @@ public class ProjectService {
                 .githubRepo(request.getGithubRepo())
                 .startDate(request.getStartDate())
                 .finalSubmissionDate(request.getFinalSubmissionDate())
-                .projectSummaryPdf(new Binary(BsonBinarySubType.BINARY, pdfBytes))
+                .summaryPdf(pdf)
                 .createdBy(username) // ✅ SET THIS
                 .build();
 
-        return projectRepository.save(project);
+        Project saved = projectRepository.save(project);
+        projectCounterService.projectCreated(saved);
+        pdfPreviewService.requestPreview(pdf);
+        return saved;
     }
-    public Project updateProject(String id, ProjectRequest request, byte[] pdfBytes) {
-        Project existing = projectRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Project not found"));
+    public Project updateProject(String id, ProjectRequest request, MultipartFile file) throws IOException {
+        Update update = new Update()
+                .set("title", request.getTitle())
+                .set("description", request.getDescription())
+                .set("guideName", request.getGuideName())
+                .set("coGuideName", request.getCoGuideName())
+                .set("email", request.getEmail())
+                .set("url", request.getUrl())
+                .set("githubRepo", request.getGithubRepo())
+                .set("startDate", request.getStartDate())
+                .set("finalSubmissionDate", request.getFinalSubmissionDate())
+                .set("students", request.getStudents());
+
+        if (file == null || file.isEmpty()) {
+            Project updated = projectRepository.updateFields(id, update);
+            if (updated == null) throw new RuntimeException("Project not found");
+            return updated;
+        }
+
+        return replacePdf(id, update, PdfSource.of(file), file.getOriginalFilename());
+    }
+
+    /** Attaches a summary PDF assembled outside a multipart request, e.g. a finished resumable upload. */
+    public Project attachPdf(String id, PdfSource source, String filename) throws IOException {
+        return replacePdf(id, new Update(), source, filename);
+    }
+
+    private Project replacePdf(String id, Update update, PdfSource source, String filename) throws IOException {
+        // Re-uploading the current file is common; compare hashes before touching storage
+        PdfStorageService.Digest digest = pdfStorageService.digest(source);
+        PdfAttachment current = projectRepository.findSummaryPdfById(id)
+                .orElseThrow(() -> new RuntimeException("Project not found"))
+                .getSummaryPdf();
+        if (current != null && digest.sha256().equals(current.getSha256())) {
+            Project updated = projectRepository.updateFields(id, update);
+            if (updated == null) throw new RuntimeException("Project not found");
+            return updated;
+        }
 
-        existing.setTitle(request.getTitle());
-        existing.setDescription(request.getDescription());
-        existing.setGuideName(request.getGuideName());
-        existing.setCoGuideName(request.getCoGuideName());
-        existing.setEmail(request.getEmail());
-        existing.setUrl(request.getUrl());
-        existing.setGithubRepo(request.getGithubRepo());
-        existing.setStartDate(request.getStartDate());
-        existing.setFinalSubmissionDate(request.getFinalSubmissionDate());
-        existing.setStudents(request.getStudents());
+        PdfAttachment pdf = pdfStorageService.store(source, filename, digest);
+        Project previous = projectRepository.updateFieldsReturningPrevious(id, update.set("summaryPdf", pdf), "summaryPdf");
+        if (previous == null) {
+            pdfStorageService.release(pdf);
+            throw new RuntimeException("Project not found");
+        }
+        if (previous.getSummaryPdf() == null) {
+            projectCounterService.pdfAttached();
+        } else {
+            pdfStorageService.release(previous.getSummaryPdf());
+        }
+        pdfPreviewService.requestPreview(pdf);
+        return projectRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Project not found"));
+    }
 
+    /**
+     * Sets only the given fields. Keys must be editable {@link ProjectRequest}
+     * properties; values are type-checked by binding them onto one.
+     */
+    public Optional<Project> patchProject(String id, Map<String, Object> changes) {
+        Set<String> unknown = new HashSet<>(changes.keySet());
+        unknown.removeAll(PATCHABLE_FIELDS);
+        if (!unknown.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Fields not editable: " + unknown);
+        }
 
-        if (pdfBytes != null) {
-            existing.setProjectSummaryPdf(new Binary(BsonBinarySubType.BINARY, pdfBytes));
+        ProjectRequest typed;
+        try {
+            typed = objectMapper.convertValue(changes, ProjectRequest.class);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid field value");
         }
 
-        return projectRepository.save(existing);
+        BeanWrapper values = new BeanWrapperImpl(typed);
+        Update update = new Update();
+        changes.keySet().forEach(field -> update.set(field, values.getPropertyValue(field)));
+        return Optional.ofNullable(projectRepository.updateFields(id, update));
     }
 
-    public List<Project> getAllProjects() {
-        return projectRepository.findAll();
+    public Optional<Project> addRemark(String id, Remark remark) {
+        remark.setProjectId(id);
+        Remark saved = remarkRepository.insert(remark);
+
+        Project project = projectRepository.recordRemark(id, saved.getCreatedAt());
+        if (project == null) {
+            remarkRepository.deleteById(saved.getId());
+        } else {
+            projectCounterService.remarkAdded(project);
+        }
+        return Optional.ofNullable(project);
     }
 
-    public List<Project> getProjectsByStudent(String username) {
-        return projectRepository.findByCreatedBy(username); // preferred
+    public ProjectPage listProjects(ProjectFilter filter, String sort, String direction, String cursor, Integer size) {
+        int pageSize = size == null ? defaultPageSize : Math.min(Math.max(size, 1), maxPageSize);
+        try {
+            if (cursor != null && !cursor.isBlank()) {
+                ProjectCursor after = ProjectCursor.decode(cursor);
+                return projectRepository.findSummaryPage(filter, after.sort(), after.direction(), after, pageSize);
+            }
+            Sort.Direction dir = direction == null ? Sort.Direction.ASC : Sort.Direction.fromString(direction);
+            return projectRepository.findSummaryPage(filter, ProjectSort.fromParam(sort), dir, null, pageSize);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+    public ProjectPage searchProjects(String text, ProjectFilter filter, String cursor, Integer size) {
+        if (text == null || text.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "q is required");
+        }
+        int pageSize = size == null ? defaultPageSize : Math.min(Math.max(size, 1), maxPageSize);
+        try {
+            int offset = cursor == null || cursor.isBlank() ? 0 : SearchCursor.decode(cursor);
+            return projectRepository.search(text.trim(), filter, offset, pageSize);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
     }
+
     public void deleteProject(String id) {
-        projectRepository.deleteById(id);
+        // Only the delete that actually removed the document adjusts counters and releases its PDF
+        Project removed = projectRepository.removeById(id);
+        remarkRepository.deleteByProjectId(id);
+        if (removed != null) {
+            projectCounterService.projectDeleted(removed);
+            pdfStorageService.release(removed.getSummaryPdf());
+        }
     }
 
     public Optional<Project> getProjectById(String id) {
         return projectRepository.findById(id); //unused
     }
-    public Project save(Project p) {
-        return projectRepository.save(p);
-    }
 }
\ No newline at end of file
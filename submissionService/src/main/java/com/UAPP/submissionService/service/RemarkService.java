@@ -0,0 +1,76 @@
+package com.UAPP.submissionService.service;
+
+import com.UAPP.submissionService.dto.RemarkPage;
+import com.UAPP.submissionService.model.Remark;
+import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Newest-first remark timeline per project, paged by (createdAt, _id) so
+ * each page is a bounded scan of the project_timeline index.
+ */
+@Service
+@RequiredArgsConstructor
+public class RemarkService {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${app.remarks.page-size:20}")
+    private int defaultPageSize;
+    @Value("${app.remarks.max-page-size:100}")
+    private int maxPageSize;
+
+    public RemarkPage timeline(String projectId, String cursor, Integer size) {
+        int pageSize = size == null ? defaultPageSize : Math.min(Math.max(size, 1), maxPageSize);
+
+        Criteria criteria = Criteria.where("projectId").is(projectId);
+        if (cursor != null && !cursor.isBlank()) {
+            criteria = new Criteria().andOperator(criteria, before(cursor));
+        }
+        Query query = Query.query(criteria)
+                .with(Sort.by(Sort.Direction.DESC, "createdAt", "_id"))
+                .limit(pageSize + 1);
+
+        List<Remark> rows = new ArrayList<>(mongoTemplate.find(query, Remark.class));
+        String next = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            Remark last = rows.get(pageSize - 1);
+            next = encode(last.getCreatedAt(), last.getId());
+        }
+        return new RemarkPage(rows, next);
+    }
+
+    private static Criteria before(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", 2);
+            Instant createdAt = Instant.parse(parts[0]);
+            ObjectId id = new ObjectId(parts[1]);
+            return new Criteria().orOperator(
+                    Criteria.where("createdAt").lt(createdAt),
+                    Criteria.where("createdAt").is(createdAt).and("_id").lt(id));
+        } catch (IllegalArgumentException | DateTimeParseException | ArrayIndexOutOfBoundsException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Malformed cursor");
+        }
+    }
+
+    private static String encode(Instant createdAt, String id) {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
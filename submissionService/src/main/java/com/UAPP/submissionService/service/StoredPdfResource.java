@@ -0,0 +1,54 @@
+package com.UAPP.submissionService.service;
+
+import com.UAPP.submissionService.model.PdfAttachment;
+import org.springframework.core.io.AbstractResource;
+
+import java.io.InputStream;
+import java.util.function.Supplier;
+
+/**
+ * Resource view of a stored PDF that opens a fresh GridFS download stream on
+ * every {@link #getInputStream()} call. Being re-readable and knowing its
+ * length up front lets Spring MVC answer single and multi-part Range requests
+ * by skipping straight to the requested chunks.
+ */
+public class StoredPdfResource extends AbstractResource {
+
+    private final PdfAttachment attachment;
+    private final Supplier<InputStream> opener;
+
+    StoredPdfResource(PdfAttachment attachment, Supplier<InputStream> opener) {
+        this.attachment = attachment;
+        this.opener = opener;
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return opener.get();
+    }
+
+    @Override
+    public long contentLength() {
+        return attachment.getSize();
+    }
+
+    @Override
+    public long lastModified() {
+        return attachment.getUploadedAt() == null ? 0L : attachment.getUploadedAt().toEpochMilli();
+    }
+
+    @Override
+    public String getFilename() {
+        return attachment.getFilename();
+    }
+
+    @Override
+    public boolean exists() {
+        return true;
+    }
+
+    @Override
+    public String getDescription() {
+        return "GridFS PDF [" + attachment.getFileId() + "]";
+    }
+}
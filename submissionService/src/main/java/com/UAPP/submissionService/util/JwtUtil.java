@@ -2,52 +2,177 @@ package com.UAPP.submissionService.util;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
-import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * Verifies tokens issued by auth-service. The signing key and parser are built
+ * once; verified claims are cached per token digest until the token expires
+ * (or the configured TTL passes), so repeated calls for the same request or
+ * the same client skip the HMAC check and JSON decoding.
+ */
 @Component
-public class JwtUtil {
+public class JwtUtil implements MeterBinder {
 
-    @Value("${JWT_KEY}")
-    private String jwtSecret;
+    private final JwtParser parser;
+    private final ClaimsCache cache;
+    private final LongAdder verified = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
 
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+    public JwtUtil(@Value("${JWT_KEY}") String jwtSecret,
+                   @Value("${app.jwt.cache.max-size:10000}") int cacheMaxSize,
+                   @Value("${app.jwt.cache.ttl:PT10M}") Duration cacheTtl) {
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8)))
+                .build();
+        this.cache = new ClaimsCache(cacheMaxSize, cacheTtl.toMillis());
+    }
+
+    public Claims extractClaims(String token) {
+        String key = digest(token);
+        long now = System.currentTimeMillis();
+
+        Claims cached = cache.get(key, now);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims;
+        try {
+            claims = parser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            rejected.increment();
+            throw e;
+        }
+        verified.increment();
+        cache.put(key, claims, now);
+        return claims;
     }
 
     public String extractUsername(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return extractClaims(token).getSubject();
     }
 
-    public String extractRole(String token) {
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("jwt.claims.cache.size", cache, ClaimsCache::size)
+                .description("Verified JWT claims currently cached")
+                .register(registry);
+        FunctionCounter.builder("jwt.claims.cache.requests", cache.hits, LongAdder::sum)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("jwt.claims.cache.requests", cache.misses, LongAdder::sum)
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("jwt.claims.cache.evictions", cache.evictions, LongAdder::sum)
+                .register(registry);
+        // Signature checks actually performed; cache hits are not counted here
+        FunctionCounter.builder("jwt.verifications", verified, LongAdder::sum)
+                .tag("result", "valid")
+                .register(registry);
+        FunctionCounter.builder("jwt.verifications", rejected, LongAdder::sum)
+                .tag("result", "invalid")
+                .register(registry);
+    }
+
+    private static String digest(String token) {
         try {
-            Object role = Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody()
-                    .get("role"); // role claim if available
-            return role != null ? role.toString() : null;
-        } catch (JwtException e) {
-            return null;
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
         }
     }
 
-    public boolean isAdmin(String token) {
-        String role = extractRole(token);
-        if (role != null) {
-            return "ADMIN".equalsIgnoreCase(role);
+    /**
+     * Bounded LRU of verified claims. Guarded by a lock rather than
+     * {@code synchronized} so virtual threads never pin on it.
+     */
+    static final class ClaimsCache {
+        private final int maxSize;
+        private final long ttlMillis;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+        final LongAdder hits = new LongAdder();
+        final LongAdder misses = new LongAdder();
+        final LongAdder evictions = new LongAdder();
+
+        ClaimsCache(int maxSize, long ttlMillis) {
+            this.maxSize = maxSize;
+            this.ttlMillis = ttlMillis;
+        }
+
+        Claims get(String key, long now) {
+            if (maxSize <= 0) {
+                misses.increment();
+                return null;
+            }
+            lock.lock();
+            try {
+                Entry entry = entries.get(key);
+                if (entry != null && entry.expiresAt > now) {
+                    hits.increment();
+                    return entry.claims;
+                }
+                if (entry != null) {
+                    entries.remove(key);
+                }
+            } finally {
+                lock.unlock();
+            }
+            misses.increment();
+            return null;
+        }
+
+        void put(String key, Claims claims, long now) {
+            if (maxSize <= 0) {
+                return;
+            }
+            long expiresAt = now + ttlMillis;
+            Date exp = claims.getExpiration();
+            if (exp != null) {
+                expiresAt = Math.min(expiresAt, exp.getTime());
+            }
+            lock.lock();
+            try {
+                entries.put(key, new Entry(claims, expiresAt));
+                Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+                while (entries.size() > maxSize && eldest.hasNext()) {
+                    eldest.next();
+                    eldest.remove();
+                    evictions.increment();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int size() {
+            lock.lock();
+            try {
+                return entries.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private record Entry(Claims claims, long expiresAt) {
         }
-        // Fallback if role not present — treat hardcoded admin username as ADMIN
-        String username = extractUsername(token);
-        return "admin".equalsIgnoreCase(username);
     }
 }
@@ -0,0 +1,66 @@
+package com.UAPP.submissionService.controller;
+
+import com.UAPP.submissionService.model.Project;
+import com.UAPP.submissionService.repository.ProjectRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectControllerDetailTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+    @InjectMocks
+    private ProjectController controller;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+        Project project = Project.builder().id("p1").title("Compilers").version(3L).build();
+        lenient().when(projectRepository.findById("p1")).thenReturn(Optional.of(project));
+        lenient().when(projectRepository.findVersionById("p1"))
+                .thenReturn(Optional.of(Project.builder().id("p1").version(3L).build()));
+    }
+
+    @Test
+    void servesProjectWithVersionEtag() throws Exception {
+        mockMvc.perform(get("/api/projects/p1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"v3\""))
+                .andExpect(jsonPath("$.title").value("Compilers"));
+
+        verify(projectRepository, never()).findVersionById(any());
+    }
+
+    @Test
+    void answersCurrentEtagFromVersionProjection() throws Exception {
+        mockMvc.perform(get("/api/projects/p1").header(HttpHeaders.IF_NONE_MATCH, "\"v3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(projectRepository, never()).findById(any());
+    }
+
+    @Test
+    void sendsFullProjectWhenVersionMoved() throws Exception {
+        mockMvc.perform(get("/api/projects/p1").header(HttpHeaders.IF_NONE_MATCH, "\"v2\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"v3\""));
+    }
+}
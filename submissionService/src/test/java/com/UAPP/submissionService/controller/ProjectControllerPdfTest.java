@@ -0,0 +1,116 @@
+package com.UAPP.submissionService.controller;
+
+import com.UAPP.submissionService.model.PdfAttachment;
+import com.UAPP.submissionService.model.Project;
+import com.UAPP.submissionService.repository.ProjectRepository;
+import com.UAPP.submissionService.service.PdfStorageService;
+import com.UAPP.submissionService.service.StoredPdfResource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectControllerPdfTest {
+
+    private static final byte[] CONTENT = "%PDF-1.4 0123456789".getBytes(StandardCharsets.US_ASCII);
+
+    @Mock
+    private ProjectRepository projectRepository;
+    @Mock
+    private PdfStorageService pdfStorageService;
+    @InjectMocks
+    private ProjectController controller;
+
+    private MockMvc mockMvc;
+    private PdfAttachment pdf;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+        pdf = PdfAttachment.builder()
+                .fileId("65f000000000000000000001")
+                .size(CONTENT.length)
+                .sha256("abc123")
+                .uploadedAt(Instant.parse("2025-03-01T10:15:30Z"))
+                .build();
+        Project project = Project.builder().id("p1").summaryPdf(pdf).build();
+        lenient().when(projectRepository.findSummaryPdfById("p1")).thenReturn(Optional.of(project));
+        StoredPdfResource resource = mock(StoredPdfResource.class);
+        lenient().when(resource.getInputStream()).thenAnswer(inv -> new ByteArrayResource(CONTENT).getInputStream());
+        lenient().when(resource.contentLength()).thenReturn((long) CONTENT.length);
+        lenient().when(pdfStorageService.openResource(any())).thenReturn(resource);
+    }
+
+    @Test
+    void servesWholeFileWithValidators() throws Exception {
+        mockMvc.perform(get("/api/projects/p1/pdf"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc123\""))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(content().bytes(CONTENT));
+    }
+
+    @Test
+    void answersMatchingEtagWithNotModified() throws Exception {
+        mockMvc.perform(get("/api/projects/p1/pdf").header(HttpHeaders.IF_NONE_MATCH, "\"abc123\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    void servesSingleRange() throws Exception {
+        mockMvc.perform(get("/api/projects/p1/pdf").header(HttpHeaders.RANGE, "bytes=0-3"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 0-3/" + CONTENT.length))
+                .andExpect(content().string("%PDF"));
+    }
+
+    @Test
+    void servesMultipleRangesAsByteranges() throws Exception {
+        mockMvc.perform(get("/api/projects/p1/pdf").header(HttpHeaders.RANGE, "bytes=0-3,9-10"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, org.hamcrest.Matchers.startsWith("multipart/byteranges")));
+    }
+
+    @Test
+    void ignoresRangeWhenIfRangeIsStale() throws Exception {
+        mockMvc.perform(get("/api/projects/p1/pdf")
+                        .header(HttpHeaders.RANGE, "bytes=0-3")
+                        .header(HttpHeaders.IF_RANGE, "\"old\""))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(CONTENT));
+    }
+
+    @Test
+    void rejectsUnsatisfiableRange() throws Exception {
+        mockMvc.perform(get("/api/projects/p1/pdf").header(HttpHeaders.RANGE, "bytes=500-600"))
+                .andExpect(status().isRequestedRangeNotSatisfiable());
+    }
+
+    @Test
+    void returnsNotFoundWithoutPdf() throws Exception {
+        when(projectRepository.findSummaryPdfById("missing")).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/projects/missing/pdf"))
+                .andExpect(status().isNotFound());
+        verify(pdfStorageService, never()).openResource(any());
+    }
+}
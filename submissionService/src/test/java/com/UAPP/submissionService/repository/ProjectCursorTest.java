@@ -0,0 +1,56 @@
+package com.UAPP.submissionService.repository;
+
+import com.UAPP.submissionService.dto.ProjectSort;
+import com.UAPP.submissionService.dto.ProjectSummary;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProjectCursorTest {
+
+    @Test
+    void roundTripsSubmissionDateCursor() {
+        ProjectSummary last = ProjectSummary.builder()
+                .id("65f000000000000000000001")
+                .finalSubmissionDate(LocalDate.of(2025, 4, 30))
+                .build();
+
+        String token = ProjectCursor.after(last, ProjectSort.SUBMISSION_DATE, Sort.Direction.DESC).encode();
+        ProjectCursor decoded = ProjectCursor.decode(token);
+
+        assertThat(decoded.sort()).isEqualTo(ProjectSort.SUBMISSION_DATE);
+        assertThat(decoded.direction()).isEqualTo(Sort.Direction.DESC);
+        assertThat(decoded.lastId()).isEqualTo("65f000000000000000000001");
+        assertThat(decoded.lastValue()).isEqualTo(LocalDate.of(2025, 4, 30));
+    }
+
+    @Test
+    void keepsTitlesContainingSeparators() {
+        ProjectSummary last = ProjectSummary.builder().id("abc").title("A|B ~ C").build();
+
+        ProjectCursor decoded = ProjectCursor.decode(
+                ProjectCursor.after(last, ProjectSort.TITLE, Sort.Direction.ASC).encode());
+
+        assertThat(decoded.lastValue()).isEqualTo("A|B ~ C");
+    }
+
+    @Test
+    void distinguishesMissingValues() {
+        ProjectSummary last = ProjectSummary.builder().id("abc").build();
+
+        ProjectCursor decoded = ProjectCursor.decode(
+                ProjectCursor.after(last, ProjectSort.SUBMISSION_DATE, Sort.Direction.ASC).encode());
+
+        assertThat(decoded.lastValue()).isNull();
+    }
+
+    @Test
+    void rejectsGarbage() {
+        assertThatThrownBy(() -> ProjectCursor.decode("not a cursor!"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,45 @@
+package com.UAPP.submissionService.repository;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.convert.Jsr310Converters;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+
+import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.TimeZone;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProjectRepositoryImplTest {
+
+    @Test
+    void bucketsTheFirstOfAMonthIntoThatMonthEastOfUtc() {
+        TimeZone original = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone("Asia/Kolkata"));
+        try {
+            // What Spring Data stores for finalSubmissionDate = 2026-04-01
+            Date stored = Jsr310Converters.LocalDateToDateConverter.INSTANCE.convert(LocalDate.of(2026, 4, 1));
+
+            Document expression = ProjectRepositoryImpl.submissionMonth(ZoneId.systemDefault())
+                    .toDocument(Aggregation.DEFAULT_CONTEXT);
+            Document dateToString = expression.get("$dateToString", Document.class);
+            assertThat(dateToString.getString("format")).isEqualTo("%Y-%m");
+            assertThat(dateToString.get("timezone")).isEqualTo("Asia/Kolkata");
+
+            // $dateToString renders the stored instant in the given timezone
+            assertThat(month(stored, dateToString.get("timezone").toString())).isEqualTo("2026-04");
+            assertThat(month(stored, "UTC")).isEqualTo("2026-03");
+        } finally {
+            TimeZone.setDefault(original);
+        }
+    }
+
+    private static String month(Date date, String zone) {
+        SimpleDateFormat format = new SimpleDateFormat("yyyy-MM");
+        format.setTimeZone(TimeZone.getTimeZone(zone));
+        return format.format(date);
+    }
+}
@@ -0,0 +1,116 @@
+package com.UAPP.submissionService.service;
+
+import com.UAPP.submissionService.model.ImportantDate;
+import com.UAPP.submissionService.model.Project;
+import com.UAPP.submissionService.model.ReminderLog;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DeadlineReminderServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-10T09:00:00Z");
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+    @Mock
+    private EmailOutboxService outboxService;
+    @Spy
+    private SimpleMeterRegistry meterRegistry;
+    @InjectMocks
+    private DeadlineReminderService service;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "leadTimes", List.of(Duration.ofDays(7), Duration.ofDays(1)));
+        ReflectionTestUtils.setField(service, "zone", ZoneOffset.UTC);
+        ReflectionTestUtils.setField(service, "batchSize", 1);
+        ReflectionTestUtils.setField(service, "batchSpacing", Duration.ofMinutes(1));
+    }
+
+    private static Project project(String id, String email, LocalDate due) {
+        return Project.builder().id(id).title("Project " + id).email(email).finalSubmissionDate(due).build();
+    }
+
+    @Test
+    void picksTheTightestLeadTimeThatApplies() {
+        assertEquals(Duration.ofDays(7), service.stage(NOW.plus(Duration.ofDays(3)), NOW));
+        assertEquals(Duration.ofDays(1), service.stage(NOW.plus(Duration.ofHours(5)), NOW));
+        assertNull(service.stage(NOW.plus(Duration.ofDays(8)), NOW));
+        assertNull(service.stage(NOW.minus(Duration.ofHours(1)), NOW));
+    }
+
+    @Test
+    void skipsRemindersAlreadyLoggedAndStaggersBatches() {
+        when(mongoTemplate.stream(any(Query.class), eq(Project.class))).thenReturn(Stream.of(
+                project("p1", "a@example.edu", LocalDate.of(2026, 3, 12)),
+                project("p2", "b@example.edu", LocalDate.of(2026, 3, 10)),
+                project("p3", "c@example.edu", LocalDate.of(2026, 3, 14))));
+        when(mongoTemplate.find(any(Query.class), eq(ImportantDate.class))).thenReturn(List.of());
+        String sentBefore = "a@example.edu|PROJECT_SUBMISSION|p1|2026-03-13T00:00:00Z|PT168H";
+        when(mongoTemplate.find(any(Query.class), eq(ReminderLog.class)))
+                .thenReturn(List.of(ReminderLog.builder().key(sentBefore).build()))
+                .thenReturn(List.of());
+        BulkOperations bulk = mock(BulkOperations.class);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ReminderLog.class)).thenReturn(bulk);
+        when(bulk.insert(anyList())).thenReturn(bulk);
+
+        assertEquals(2, service.remind(NOW));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, String>> text = ArgumentCaptor.forClass(Map.class);
+        ArgumentCaptor<Instant> notBefore = ArgumentCaptor.forClass(Instant.class);
+        verify(outboxService, times(2)).enqueueReminders(text.capture(), notBefore.capture());
+        assertEquals(List.of("b@example.edu"), List.copyOf(text.getAllValues().get(0).keySet()));
+        assertTrue(text.getAllValues().get(0).get("b@example.edu").contains("Project p2"));
+        assertEquals(List.of("c@example.edu"), List.copyOf(text.getAllValues().get(1).keySet()));
+        assertEquals(List.of(NOW, NOW.plus(Duration.ofMinutes(1))), notBefore.getAllValues());
+        assertEquals(2.0, meterRegistry.get("reminders.queued").counter().count());
+    }
+
+    @Test
+    void releasesClaimsWhenTheOutboxInsertFails() {
+        when(mongoTemplate.stream(any(Query.class), eq(Project.class))).thenReturn(Stream.of(
+                project("p1", "a@example.edu", LocalDate.of(2026, 3, 12))));
+        when(mongoTemplate.find(any(Query.class), eq(ImportantDate.class))).thenReturn(List.of());
+        when(mongoTemplate.find(any(Query.class), eq(ReminderLog.class))).thenReturn(List.of());
+        BulkOperations bulk = mock(BulkOperations.class);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ReminderLog.class)).thenReturn(bulk);
+        when(bulk.insert(anyList())).thenReturn(bulk);
+        doThrow(new DataAccessResourceFailureException("not primary"))
+                .when(outboxService).enqueueReminders(anyMap(), any(Instant.class));
+
+        assertThrows(DataAccessResourceFailureException.class, () -> service.remind(NOW));
+
+        ArgumentCaptor<Query> released = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).remove(released.capture(), eq(ReminderLog.class));
+        assertEquals(List.of("a@example.edu|PROJECT_SUBMISSION|p1|2026-03-13T00:00:00Z|PT168H"),
+                released.getValue().getQueryObject().get("_id", Document.class).getList("$in", String.class));
+        assertTrue(meterRegistry.find("reminders.queued").counters().isEmpty());
+    }
+}
@@ -0,0 +1,93 @@
+package com.UAPP.submissionService.service;
+
+import com.UAPP.submissionService.model.EmailOutboxMessage;
+import com.UAPP.submissionService.model.OutboxMessageType;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class EmailOutboxDispatcherTest {
+
+    @RegisterExtension
+    static GreenMailExtension smtp = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private EmailOutboxService outboxService;
+    private EmailOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(smtp.getSmtp().getPort());
+
+        outboxService = mock(EmailOutboxService.class);
+        dispatcher = new EmailOutboxDispatcher(outboxService, new EmailService(mailSender, registry));
+    }
+
+    private static EmailOutboxMessage remark(String id, String to, String title, String text) {
+        return EmailOutboxMessage.builder().id(id).recipient(to).projectTitle(title).text(text).build();
+    }
+
+    @Test
+    void coalescesRemarksPerRecipient() throws Exception {
+        EmailOutboxMessage first = remark("1", "lead@example.edu", "Compiler", "Add tests");
+        EmailOutboxMessage second = remark("2", "lead@example.edu", "Compiler", "Fix typos");
+        EmailOutboxMessage other = remark("3", "other@example.edu", "Robot", "Looks good");
+
+        dispatcher.deliver(List.of(first, second, other));
+
+        MimeMessage[] received = smtp.getReceivedMessages();
+        assertThat(received).hasSize(2);
+        assertThat(GreenMailUtil.getBody(received[0])).contains("Add tests").contains("Fix typos");
+        assertThat(received[0].getSubject()).isEqualTo("New Remarks Added to Your Project");
+        assertThat(received[1].getSubject()).isEqualTo("New Remark Added to Your Project");
+        verify(outboxService).markSent(List.of(first, second, other));
+        verify(outboxService, never()).markFailed(anyList(), any());
+    }
+
+    @Test
+    void keepsRemindersApartFromRemarks() throws Exception {
+        EmailOutboxMessage remark = remark("1", "lead@example.edu", "Compiler", "Add tests");
+        EmailOutboxMessage reminder = EmailOutboxMessage.builder().id("2").recipient("lead@example.edu")
+                .type(OutboxMessageType.DEADLINE_REMINDER).text("- Final submission for \"Compiler\": Fri 13 Mar 2026\n")
+                .build();
+
+        dispatcher.deliver(List.of(remark, reminder));
+
+        MimeMessage[] received = smtp.getReceivedMessages();
+        assertThat(received).hasSize(2);
+        assertThat(received[0].getSubject()).isEqualTo("New Remark Added to Your Project");
+        assertThat(received[1].getSubject()).isEqualTo("Upcoming Project Deadlines");
+        assertThat(GreenMailUtil.getBody(received[1])).contains("Final submission for").doesNotContain("Add tests");
+    }
+
+    @Test
+    void schedulesRetryWhenServerIsDown() {
+        JavaMailSenderImpl unreachable = new JavaMailSenderImpl();
+        unreachable.setHost("localhost");
+        unreachable.setPort(1);
+        dispatcher = new EmailOutboxDispatcher(outboxService, new EmailService(unreachable, registry));
+        EmailOutboxMessage message = remark("1", "lead@example.edu", "Compiler", "Add tests");
+
+        dispatcher.deliver(List.of(message));
+
+        verify(outboxService).markFailed(eq(List.of(message)), any());
+        verify(outboxService, never()).markSent(anyList());
+        assertThat(registry.get("mail.send").tag("outcome", "failure").timer().count()).isEqualTo(1);
+        assertThat(registry.get("mail.send.failures").counter().count()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,66 @@
+package com.UAPP.submissionService.service;
+
+import com.UAPP.submissionService.model.ImportantDate;
+import com.UAPP.submissionService.repository.ImportantDateRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ImportantDateServiceTest {
+
+    private ImportantDateRepository repo;
+    private ThreadPoolTaskScheduler scheduler;
+    private ImportantDateService service;
+
+    @BeforeEach
+    void setUp() {
+        repo = mock(ImportantDateRepository.class);
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.initialize();
+        service = new ImportantDateService(repo, scheduler);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    void servesSnapshotUntilAWriteInvalidatesIt() {
+        ImportantDate exam = date("exam", Instant.now().plusSeconds(3600));
+        when(repo.findByDateAfterOrderByDateAsc(any())).thenReturn(List.of(exam));
+
+        assertEquals(List.of(exam), service.getUpcomingDates());
+        assertEquals(List.of(exam), service.getUpcomingDates());
+        verify(repo, times(1)).findByDateAfterOrderByDateAsc(any());
+
+        service.addDate(date("viva", Instant.now().plusSeconds(7200)));
+        service.getUpcomingDates();
+        verify(repo, times(2)).findByDateAfterOrderByDateAsc(any());
+    }
+
+    @Test
+    void dropsDatesAsTheyPassWithoutReloading() throws InterruptedException {
+        ImportantDate soon = date("soon", Instant.now().plusMillis(150));
+        ImportantDate later = date("later", Instant.now().plusSeconds(3600));
+        when(repo.findByDateAfterOrderByDateAsc(any())).thenReturn(List.of(soon, later));
+
+        assertEquals(List.of(soon, later), service.getUpcomingDates());
+        Thread.sleep(400);
+
+        assertEquals(List.of(later), service.getUpcomingDates());
+        verify(repo, times(1)).findByDateAfterOrderByDateAsc(any());
+    }
+
+    private static ImportantDate date(String title, Instant at) {
+        return ImportantDate.builder().id(title).title(title).date(at).build();
+    }
+}
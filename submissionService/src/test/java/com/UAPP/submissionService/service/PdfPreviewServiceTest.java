@@ -0,0 +1,102 @@
+package com.UAPP.submissionService.service;
+
+import com.UAPP.submissionService.model.PdfAttachment;
+import com.UAPP.submissionService.model.PdfPreview;
+import com.UAPP.submissionService.model.PreviewStatus;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class PdfPreviewServiceTest {
+
+    private PdfStorageService pdfStorageService;
+    private PdfPreviewService service;
+
+    @BeforeEach
+    void setUp() {
+        pdfStorageService = mock(PdfStorageService.class);
+        service = new PdfPreviewService(mock(MongoTemplate.class), pdfStorageService, 1, 4);
+        ReflectionTestUtils.setField(service, "thumbnailWidth", 120);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void extractsPageCountSnippetAndThumbnail() throws Exception {
+        serve(twoPagePdf());
+
+        PdfPreview preview = service.extract(PdfAttachment.builder().sha256("abc").build());
+
+        assertEquals(PreviewStatus.READY, preview.getStatus());
+        assertEquals(2, preview.getPageCount());
+        assertTrue(preview.getSnippet().startsWith("Compiler construction"), preview.getSnippet());
+        BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(preview.getThumbnail()));
+        assertEquals(120, thumbnail.getWidth());
+    }
+
+    @Test
+    void recordsFailureForUnreadableFiles() throws Exception {
+        serve("not a pdf".getBytes(StandardCharsets.US_ASCII));
+
+        PdfPreview preview = service.extract(PdfAttachment.builder().sha256("abc").build());
+
+        assertEquals(PreviewStatus.FAILED, preview.getStatus());
+        assertNull(preview.getThumbnail());
+    }
+
+    @Test
+    void leavesTransientReadErrorsForTheNextSweep() throws Exception {
+        StoredPdfResource resource = mock(StoredPdfResource.class);
+        when(resource.getInputStream()).thenThrow(new IOException("connection reset"));
+        when(pdfStorageService.openResource(any())).thenReturn(resource);
+
+        assertThrows(UncheckedIOException.class,
+                () -> service.extract(PdfAttachment.builder().sha256("abc").build()));
+    }
+
+    private void serve(byte[] bytes) throws IOException {
+        StoredPdfResource resource = mock(StoredPdfResource.class);
+        when(resource.getInputStream()).thenAnswer(inv -> new ByteArrayInputStream(bytes));
+        when(pdfStorageService.openResource(any())).thenReturn(resource);
+    }
+
+    private static byte[] twoPagePdf() throws IOException {
+        try (PDDocument document = new PDDocument()) {
+            PDPage first = new PDPage();
+            document.addPage(first);
+            try (PDPageContentStream content = new PDPageContentStream(document, first)) {
+                content.beginText();
+                content.setFont(new PDType1Font(Standard14Fonts.FontName.HELVETICA), 14);
+                content.newLineAtOffset(72, 700);
+                content.showText("Compiler construction for the   masses");
+                content.endText();
+            }
+            document.addPage(new PDPage());
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            document.save(out);
+            return out.toByteArray();
+        }
+    }
+}
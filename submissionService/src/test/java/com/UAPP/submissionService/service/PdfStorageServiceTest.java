@@ -0,0 +1,99 @@
+package com.UAPP.submissionService.service;
+
+import com.UAPP.submissionService.model.PdfAttachment;
+import com.UAPP.submissionService.model.PdfBlob;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.gridfs.GridFsTemplate;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PdfStorageServiceTest {
+
+    private static final byte[] CONTENT = "%PDF-1.4 same bytes".getBytes(StandardCharsets.US_ASCII);
+    private static final String FILE_ID = "65f000000000000000000001";
+
+    @Mock
+    private GridFsTemplate gridFsTemplate;
+    @Mock
+    private MongoDatabaseFactory mongoDatabaseFactory;
+    @Mock
+    private MongoTemplate mongoTemplate;
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    @InjectMocks
+    private PdfStorageService service;
+
+    @Test
+    void reusesExistingBlobWithoutWriting() throws Exception {
+        String sha = service.digest(PdfSource.of(CONTENT)).sha256();
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(PdfBlob.class)))
+                .thenReturn(new PdfBlob(sha, FILE_ID, CONTENT.length, 2, null));
+
+        PdfAttachment pdf = service.store(PdfSource.of(CONTENT), "report.pdf");
+
+        assertEquals(FILE_ID, pdf.getFileId());
+        assertEquals(sha, pdf.getSha256());
+        assertEquals("report.pdf", pdf.getFilename());
+        verify(gridFsTemplate, never()).store(any(InputStream.class), anyString(), anyString());
+        assertEquals(1, meterRegistry.get("pdf.upload.size").tag("stored", "duplicate").summary().count());
+    }
+
+    @Test
+    void writesNewContentOnceAndRecordsBlob() throws Exception {
+        when(gridFsTemplate.store(any(InputStream.class), anyString(), anyString())).thenAnswer(inv -> {
+            inv.getArgument(0, InputStream.class).transferTo(OutputStream.nullOutputStream());
+            return new ObjectId(FILE_ID);
+        });
+        when(mongoTemplate.insert(any(PdfBlob.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        PdfAttachment pdf = service.store(PdfSource.of(CONTENT), null);
+
+        assertEquals(FILE_ID, pdf.getFileId());
+        assertEquals(CONTENT.length, pdf.getSize());
+        verify(mongoTemplate).insert(argThat((PdfBlob blob) -> blob.getRefCount() == 1));
+    }
+
+    @Test
+    void deletesFileWhenLastReferenceIsReleased() {
+        PdfAttachment pdf = PdfAttachment.builder().fileId(FILE_ID).sha256("abc").build();
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(PdfBlob.class)))
+                .thenReturn(new PdfBlob("abc", FILE_ID, 10, 0, null));
+        when(mongoTemplate.findAndRemove(any(Query.class), eq(PdfBlob.class)))
+                .thenReturn(new PdfBlob("abc", FILE_ID, 10, 0, null));
+
+        service.release(pdf);
+
+        verify(gridFsTemplate).delete(any(Query.class));
+    }
+
+    @Test
+    void keepsFileWhileReferencesRemain() {
+        PdfAttachment pdf = PdfAttachment.builder().fileId(FILE_ID).sha256("abc").build();
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(PdfBlob.class)))
+                .thenReturn(new PdfBlob("abc", FILE_ID, 10, 1, null));
+
+        service.release(pdf);
+
+        verify(mongoTemplate, never()).findAndRemove(any(Query.class), eq(PdfBlob.class));
+        verify(gridFsTemplate, never()).delete(any(Query.class));
+    }
+}
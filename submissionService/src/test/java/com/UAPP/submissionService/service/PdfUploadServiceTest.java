@@ -0,0 +1,134 @@
+package com.UAPP.submissionService.service;
+
+import com.UAPP.submissionService.model.Project;
+import com.UAPP.submissionService.model.UploadSession;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PdfUploadServiceTest {
+
+    @TempDir
+    Path directory;
+    @Mock
+    private MongoTemplate mongoTemplate;
+    @Mock
+    private ProjectService projectService;
+    @InjectMocks
+    private PdfUploadService service;
+
+    // Stands in for the upload_sessions document
+    private UploadSession stored;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "directory", directory);
+        ReflectionTestUtils.setField(service, "maxSize", DataSize.ofMegabytes(1));
+        ReflectionTestUtils.setField(service, "idleTimeout", Duration.ofHours(1));
+        lenient().when(mongoTemplate.insert(any(UploadSession.class))).thenAnswer(inv -> stored = inv.getArgument(0));
+        lenient().when(mongoTemplate.findById(anyString(), eq(UploadSession.class))).thenAnswer(inv -> copy(stored));
+        lenient().when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+                eq(UploadSession.class))).thenAnswer(inv -> {
+            Update update = inv.getArgument(1);
+            stored.setReceived((Long) update.getUpdateObject().get("$set", Document.class).get("received"));
+            return copy(stored);
+        });
+    }
+
+    private static UploadSession copy(UploadSession s) {
+        return s == null ? null : UploadSession.builder().id(s.getId()).projectId(s.getProjectId())
+                .owner(s.getOwner()).filename(s.getFilename()).size(s.getSize()).received(s.getReceived())
+                .expiresAt(s.getExpiresAt()).build();
+    }
+
+    private static byte[] pdf(int size) {
+        byte[] bytes = new byte[size];
+        Arrays.fill(bytes, (byte) 'x');
+        System.arraycopy("%PDF-1.7".getBytes(), 0, bytes, 0, 8);
+        return bytes;
+    }
+
+    /** Yields {@code limit} bytes, then fails like a dropped connection. */
+    private static InputStream breaksAfter(byte[] bytes, int limit) {
+        return new FilterInputStream(new ByteArrayInputStream(bytes, 0, limit)) {
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                int n = super.read(b, off, len);
+                if (n == -1) {
+                    throw new IOException("Connection reset");
+                }
+                return n;
+            }
+        };
+    }
+
+    @Test
+    void resumesABrokenChunkFromTheRecordedOffset() throws IOException {
+        byte[] content = pdf(200_000);
+        UploadSession session = service.create("p1", "alice", "summary.pdf", content.length);
+
+        assertThrows(IOException.class,
+                () -> service.append(session, 0, breaksAfter(content, 70_000)));
+        UploadSession resumed = service.find(session.getId()).orElseThrow();
+        assertEquals(70_000, resumed.getReceived());
+
+        service.append(resumed, 70_000, new ByteArrayInputStream(content, 70_000, content.length - 70_000));
+        when(projectService.attachPdf(eq("p1"), any(PdfSource.class), eq("summary.pdf"))).thenAnswer(inv -> {
+            try (InputStream in = inv.<PdfSource>getArgument(1).open()) {
+                assertArrayEquals(content, in.readAllBytes());
+            }
+            return Project.builder().id("p1").build();
+        });
+
+        assertEquals("p1", service.complete(session).getId());
+        try (var files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void rejectsChunksAtTheWrongOffsetOrPastTheDeclaredSize() throws IOException {
+        UploadSession session = service.create("p1", "alice", "summary.pdf", 10);
+
+        ResponseStatusException gap = assertThrows(ResponseStatusException.class,
+                () -> service.append(session, 5, new ByteArrayInputStream(new byte[5])));
+        assertEquals(HttpStatus.CONFLICT, gap.getStatusCode());
+
+        ResponseStatusException tooLong = assertThrows(ResponseStatusException.class,
+                () -> service.append(session, 0, new ByteArrayInputStream(new byte[11])));
+        assertEquals(HttpStatus.BAD_REQUEST, tooLong.getStatusCode());
+
+        ResponseStatusException early = assertThrows(ResponseStatusException.class, () -> service.complete(session));
+        assertEquals(HttpStatus.CONFLICT, early.getStatusCode());
+        verifyNoInteractions(projectService);
+    }
+}
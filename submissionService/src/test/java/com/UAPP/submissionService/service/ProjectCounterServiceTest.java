@@ -0,0 +1,117 @@
+package com.UAPP.submissionService.service;
+
+import com.UAPP.submissionService.dto.ProjectStats;
+import com.UAPP.submissionService.model.PdfAttachment;
+import com.UAPP.submissionService.model.Project;
+import com.UAPP.submissionService.model.ProjectCounters;
+import com.UAPP.submissionService.repository.ProjectRepository;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectCounterServiceTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+    @Mock
+    private ProjectRepository projectRepository;
+    @InjectMocks
+    private ProjectCounterService service;
+
+    private Document applied() {
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        // Increments never upsert: a missing document is rebuilt, not started from zero
+        verify(mongoTemplate).updateFirst(any(Query.class), update.capture(), eq(ProjectCounters.class));
+        verify(mongoTemplate, never()).upsert(any(Query.class), any(Update.class), eq(ProjectCounters.class));
+        return update.getValue().getUpdateObject().get("$inc", Document.class);
+    }
+
+    @Test
+    void countsImportedProjectsAndTheirPdfs() {
+        Project withPdf = Project.builder().summaryPdf(PdfAttachment.builder().fileId("f1").build()).build();
+        Project withoutPdf = Project.builder().build();
+
+        service.projectsAdded(List.of(withPdf, withoutPdf));
+
+        Document inc = applied();
+        assertEquals(2, inc.get("projects"));
+        assertEquals(1L, inc.get("withPdf"));
+    }
+
+    @Test
+    void firstRemarkMarksProjectAsRemarked() {
+        service.remarkAdded(Project.builder().remarkCount(1).build());
+
+        Document inc = applied();
+        assertEquals(1, inc.get("remarks"));
+        assertEquals(1, inc.get("remarkedProjects"));
+    }
+
+    @Test
+    void laterRemarksOnlyCountRemarks() {
+        service.remarkAdded(Project.builder().remarkCount(4).build());
+
+        Document inc = applied();
+        assertEquals(1, inc.get("remarks"));
+        assertFalse(inc.containsKey("remarkedProjects"));
+    }
+
+    @Test
+    void deletingRemovesEverythingTheProjectContributed() {
+        service.projectDeleted(Project.builder()
+                .summaryPdf(PdfAttachment.builder().fileId("f1").build())
+                .remarkCount(3)
+                .build());
+
+        Document inc = applied();
+        assertEquals(-1, inc.get("projects"));
+        assertEquals(-1, inc.get("withPdf"));
+        assertEquals(-1, inc.get("remarkedProjects"));
+        assertEquals(-3, inc.get("remarks"));
+    }
+
+    @Test
+    void summaryRebuildsMissingCountersFromAggregation() {
+        when(mongoTemplate.findById(ProjectCounters.GLOBAL, ProjectCounters.class)).thenReturn(null);
+        when(projectRepository.aggregateStats()).thenReturn(ProjectStats.builder()
+                .total(10).withPdf(7).remarked(4).remarks(9).build());
+        when(mongoTemplate.save(any(ProjectCounters.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        ProjectStats summary = service.summary();
+
+        assertEquals(10, summary.getTotal());
+        assertEquals(3, summary.getWithoutPdf());
+        assertEquals(6, summary.getUnremarked());
+        assertEquals(9, summary.getRemarks());
+        assertNull(summary.getByGuide());
+        assertNotNull(summary.getReconciledAt());
+    }
+
+    @Test
+    void summaryReadsStoredCountersWithoutScanning() {
+        when(mongoTemplate.findById(ProjectCounters.GLOBAL, ProjectCounters.class)).thenReturn(
+                ProjectCounters.builder().id(ProjectCounters.GLOBAL).projects(5).withPdf(5).remarkedProjects(2).remarks(2).build());
+
+        ProjectStats summary = service.summary();
+
+        assertEquals(5, summary.getTotal());
+        assertEquals(0, summary.getWithoutPdf());
+        assertEquals(3, summary.getUnremarked());
+        verifyNoInteractions(projectRepository);
+    }
+}
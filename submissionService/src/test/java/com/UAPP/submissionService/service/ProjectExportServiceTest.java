@@ -0,0 +1,69 @@
+package com.UAPP.submissionService.service;
+
+import com.UAPP.submissionService.dto.ExportFormat;
+import com.UAPP.submissionService.model.PdfAttachment;
+import com.UAPP.submissionService.model.Project;
+import com.UAPP.submissionService.repository.ProjectRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ProjectExportServiceTest {
+
+    private ProjectRepository projectRepository;
+    private ProjectExportService service;
+
+    @BeforeEach
+    void setUp() {
+        projectRepository = mock(ProjectRepository.class);
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        service = new ProjectExportService(projectRepository, objectMapper);
+
+        Project first = Project.builder().id("p1").title("Compilers, part 2").students(List.of("ana", "raj"))
+                .finalSubmissionDate(LocalDate.of(2026, 5, 1))
+                .summaryPdf(PdfAttachment.builder().size(42).sha256("abc").build())
+                .build();
+        Project second = Project.builder().id("p2").title("=HYPERLINK(\"x\")").build();
+        when(projectRepository.streamForExport(any())).thenReturn(Stream.of(first, second));
+    }
+
+    @Test
+    void writesOneJsonObjectPerLine() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.export(null, ExportFormat.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("{\"id\":\"p1\",\"title\":\"Compilers, part 2\",\"description\":null,\"students\":[\"ana\",\"raj\"],"
+                + "\"guideName\":null,\"coGuideName\":null,\"email\":null,\"url\":null,\"githubRepo\":null,"
+                + "\"startDate\":null,\"finalSubmissionDate\":\"2026-05-01\",\"createdBy\":null,\"remarkCount\":0,"
+                + "\"lastRemarkAt\":null,\"pdfSize\":42,\"pdfSha256\":\"abc\"}", lines[0]);
+    }
+
+    @Test
+    void writesEscapedCsvWithHeader() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.export(null, ExportFormat.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(3, lines.length);
+        assertEquals(String.join(",", ProjectExportService.COLUMNS), lines[0]);
+        assertEquals("p1,\"Compilers, part 2\",,ana;raj,,,,,,,2026-05-01,,0,,42,abc", lines[1]);
+        assertEquals("p2,\"'=HYPERLINK(\"\"x\"\")\",,,,,,,,,,,0,,,", lines[2]);
+    }
+}
@@ -0,0 +1,153 @@
+package com.UAPP.submissionService.service;
+
+import com.UAPP.submissionService.dto.ImportReport;
+import com.UAPP.submissionService.model.PdfAttachment;
+import com.UAPP.submissionService.model.Project;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectImportServiceTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+    @Mock
+    private PdfStorageService pdfStorageService;
+    @Mock
+    private BulkOperations bulkOperations;
+    @Mock
+    private PdfPreviewService pdfPreviewService;
+    @Mock
+    private ProjectCounterService projectCounterService;
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    @InjectMocks
+    private ProjectImportService service;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "batchSize", 2);
+        ReflectionTestUtils.setField(service, "maxZipSize", DataSize.ofMegabytes(1));
+        lenient().when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Project.class)).thenReturn(bulkOperations);
+        lenient().when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void importsNdjsonInBatchesAndReportsBadRows() throws Exception {
+        String body = """
+                {"title":"One","students":["ana"],"createdBy":"ana"}
+                {"description":"no title"}
+                not json
+                {"title":"Two","finalSubmissionDate":"2026-05-01"}
+                {"title":"Three"}
+                """;
+
+        ImportReport report = service.importNdjson(stream(body), "admin");
+
+        assertEquals(5, report.getTotal());
+        assertEquals(3, report.getImported());
+        assertEquals(2, report.getFailed());
+        assertEquals(List.of(1, 2, 3, 4, 5), report.getRows().stream().map(ImportReport.RowResult::getRow).toList());
+        assertEquals("title is required", report.getRows().get(1).getError());
+        assertTrue(report.getRows().get(2).getError().startsWith("Unreadable row"));
+
+        ArgumentCaptor<List<Project>> batches = ArgumentCaptor.forClass(List.class);
+        verify(bulkOperations, times(2)).insert(batches.capture());
+        Project first = batches.getAllValues().get(0).get(0);
+        assertEquals("ana", first.getCreatedBy());
+        assertEquals(0L, first.getVersion());
+    }
+
+    @Test
+    void importsZipWithCsvManifestAndPdfs() throws Exception {
+        when(pdfStorageService.store(any(PdfSource.class), eq("a.pdf")))
+                .thenReturn(PdfAttachment.builder().fileId("f1").size(4).build());
+
+        String manifest = "title,students,finalSubmissionDate,pdf\r\n"
+                + "\"Graphs, revisited\",ana; raj,2026-05-01,a.pdf\r\n"
+                + "Missing file,,,b.pdf\r\n";
+        ByteArrayOutputStream zip = new ByteArrayOutputStream();
+        try (ZipOutputStream out = new ZipOutputStream(zip)) {
+            out.putNextEntry(new ZipEntry("manifest.csv"));
+            out.write(manifest.getBytes(StandardCharsets.UTF_8));
+            out.putNextEntry(new ZipEntry("a.pdf"));
+            out.write("%PDF".getBytes(StandardCharsets.US_ASCII));
+        }
+
+        ImportReport report = service.importZip(new ByteArrayInputStream(zip.toByteArray()), "admin");
+
+        assertEquals(1, report.getImported());
+        assertEquals("No ZIP entry named b.pdf", report.getRows().get(1).getError());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Project>> batch = ArgumentCaptor.forClass(List.class);
+        verify(bulkOperations).insert(batch.capture());
+        Project project = batch.getValue().get(0);
+        assertEquals("Graphs, revisited", project.getTitle());
+        assertEquals(List.of("ana", "raj"), project.getStudents());
+        assertEquals(LocalDate.of(2026, 5, 1), project.getFinalSubmissionDate());
+        assertEquals("f1", project.getSummaryPdf().getFileId());
+        assertEquals("admin", project.getCreatedBy());
+    }
+
+    @Test
+    void releasesTheBatchPdfsWhenTheInsertFails() throws Exception {
+        PdfAttachment pdf = PdfAttachment.builder().fileId("f1").size(4).build();
+        when(pdfStorageService.store(any(PdfSource.class), eq("a.pdf"))).thenReturn(pdf);
+        when(bulkOperations.execute()).thenThrow(new DataAccessResourceFailureException("not primary"));
+
+        ByteArrayOutputStream zip = new ByteArrayOutputStream();
+        try (ZipOutputStream out = new ZipOutputStream(zip)) {
+            out.putNextEntry(new ZipEntry("manifest.csv"));
+            out.write("title,pdf\r\nGraphs,a.pdf\r\n".getBytes(StandardCharsets.UTF_8));
+            out.putNextEntry(new ZipEntry("a.pdf"));
+            out.write("%PDF".getBytes(StandardCharsets.US_ASCII));
+        }
+
+        assertThrows(DataAccessResourceFailureException.class,
+                () -> service.importZip(new ByteArrayInputStream(zip.toByteArray()), "admin"));
+        verify(pdfStorageService).release(pdf);
+        verifyNoInteractions(projectCounterService);
+    }
+
+    @Test
+    void csvReaderHandlesQuotedNewlines() throws Exception {
+        ProjectImportService.CsvReader csv = new ProjectImportService.CsvReader(
+                new StringReader("a,\"b\nc\",\"d \"\"e\"\"\"\nf"));
+
+        assertEquals(List.of("a", "b\nc", "d \"e\""), csv.next());
+        assertEquals(List.of("f"), csv.next());
+        assertNull(csv.next());
+    }
+
+    private static InputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
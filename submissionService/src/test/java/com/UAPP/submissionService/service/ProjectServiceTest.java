@@ -0,0 +1,43 @@
+package com.UAPP.submissionService.service;
+
+import com.UAPP.submissionService.model.PdfAttachment;
+import com.UAPP.submissionService.model.Project;
+import com.UAPP.submissionService.repository.ProjectRepository;
+import com.UAPP.submissionService.repository.RemarkRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectServiceTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+    @Mock
+    private RemarkRepository remarkRepository;
+    @Mock
+    private PdfStorageService pdfStorageService;
+    @Mock
+    private ProjectCounterService projectCounterService;
+    @InjectMocks
+    private ProjectService projectService;
+
+    @Test
+    void secondDeleteOfTheSameProjectReleasesAndCountsNothing() {
+        PdfAttachment pdf = PdfAttachment.builder().fileId("f1").sha256("abc").build();
+        Project project = Project.builder().id("p1").summaryPdf(pdf).build();
+        when(projectRepository.removeById("p1")).thenReturn(project).thenReturn(null);
+
+        projectService.deleteProject("p1");
+        projectService.deleteProject("p1");
+
+        verify(pdfStorageService, times(1)).release(pdf);
+        verify(pdfStorageService, times(1)).release(any());
+        verify(projectCounterService, times(1)).projectDeleted(project);
+    }
+}
@@ -0,0 +1,87 @@
+package com.UAPP.submissionService.util;
+
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtUtilTest {
+
+    private static final String SECRET = "0123456789abcdef0123456789abcdef0123456789abcdef";
+
+    private static String token(String subject, String role, long ttlMillis) {
+        return Jwts.builder()
+                .setSubject(subject)
+                .claim("role", role)
+                .setExpiration(new Date(System.currentTimeMillis() + ttlMillis))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    @Test
+    void verifiesEachTokenOnce() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 100, Duration.ofMinutes(10));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        jwtUtil.bindTo(registry);
+        String jwt = token("alice", "STUDENT", 60_000);
+
+        assertThat(jwtUtil.extractUsername(jwt)).isEqualTo("alice");
+        assertThat(jwtUtil.extractClaims(jwt).get("role")).isEqualTo("STUDENT");
+        assertThat(jwtUtil.extractClaims(jwt).getSubject()).isEqualTo("alice");
+
+        assertThat(registry.get("jwt.claims.cache.requests").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("jwt.claims.cache.requests").tag("result", "hit").functionCounter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedBeyondMaxSize() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 2, Duration.ofMinutes(10));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        jwtUtil.bindTo(registry);
+
+        jwtUtil.extractUsername(token("a", "STUDENT", 60_000));
+        jwtUtil.extractUsername(token("b", "STUDENT", 60_000));
+        jwtUtil.extractUsername(token("c", "STUDENT", 60_000));
+
+        assertThat(registry.get("jwt.claims.cache.size").gauge().value()).isEqualTo(2);
+        assertThat(registry.get("jwt.claims.cache.evictions").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void neverServesTokensPastTheirExpiry() throws InterruptedException {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 100, Duration.ofMinutes(10));
+        String jwt = token("alice", "STUDENT", 1_000);
+
+        assertThat(jwtUtil.extractUsername(jwt)).isEqualTo("alice");
+        Thread.sleep(1_100);
+
+        assertThatThrownBy(() -> jwtUtil.extractUsername(jwt)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void rejectsForgedTokens() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 100, Duration.ofMinutes(10));
+        String forged = Jwts.builder()
+                .setSubject("mallory")
+                .signWith(Keys.hmacShaKeyFor("another-secret-another-secret-another-secret!".getBytes(StandardCharsets.UTF_8)),
+                        SignatureAlgorithm.HS256)
+                .compact();
+
+        assertThatThrownBy(() -> jwtUtil.extractUsername(forged)).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> jwtUtil.extractClaims(forged)).isInstanceOf(JwtException.class);
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        jwtUtil.bindTo(registry);
+        assertThat(registry.get("jwt.verifications").tag("result", "invalid").functionCounter().count()).isEqualTo(2);
+        assertThat(registry.get("jwt.verifications").tag("result", "valid").functionCounter().count()).isZero();
+    }
+}